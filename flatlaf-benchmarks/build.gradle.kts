@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+plugins {
+	`java-library`
+	`flatlaf-toolchain`
+}
+
+dependencies {
+	implementation( project( ":flatlaf-core" ) )
+	implementation( project( ":flatlaf-extras" ) )
+	implementation( libs.jsvg )
+
+	implementation( libs.jmh.core )
+	annotationProcessor( libs.jmh.generator.annprocess )
+}
+
+tasks {
+	register<JavaExec>( "jmh" ) {
+		group = "verification"
+		description = "Runs JMH benchmarks (headless). Pass JMH options with -Pjmh.args=\"...\"."
+
+		classpath = sourceSets.main.get().runtimeClasspath
+		mainClass = "org.openjdk.jmh.Main"
+		jvmArgs( "-Djava.awt.headless=true" )
+
+		val jmhArgs = findProperty( "jmh.args" ) as String?
+		if( !jmhArgs.isNullOrBlank() )
+			args( jmhArgs.trim().split( "\\s+".toRegex() ) )
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.formdev.flatlaf.benchmarks;
+
+import java.awt.Color;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import com.formdev.flatlaf.util.ColorFunctions;
+import com.formdev.flatlaf.util.ColorFunctions.ColorFunction;
+
+/**
+ * Measures color functions ({@link ColorFunctions}),
+ * which are used while loading UI defaults and for derived colors while painting.
+ * <p>
+ * Benchmarks with suffix {@code Int} use the variants that work on ARGB ints.
+ * Run with JMH option {@code -prof gc} to compare allocation rates.
+ *
+ * @author Karl Tauber
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( value = 1, jvmArgsAppend = "-Djava.awt.headless=true" )
+@State( Scope.Benchmark )
+public class ColorFunctionsBenchmark
+{
+	private static final int ANIMATION_STEPS = 20;
+
+	private Color color = new Color( 0x4c87c8 );
+	private Color color2 = new Color( 0xf2f2f2 );
+	private int argb = color.getRGB();
+	private int argb2 = color2.getRGB();
+	private ColorFunction[] functions = {
+		new ColorFunctions.HSLIncreaseDecrease( 2, true, 10, false, true ),
+		new ColorFunctions.HSLIncreaseDecrease( 1, false, 5, false, false ),
+	};
+
+	@Benchmark
+	public Color lighten() {
+		return ColorFunctions.lighten( color, 0.1f );
+	}
+
+	@Benchmark
+	public Color darken() {
+		return ColorFunctions.darken( color, 0.1f );
+	}
+
+	@Benchmark
+	public Color saturate() {
+		return ColorFunctions.saturate( color, 0.2f );
+	}
+
+	@Benchmark
+	public Color spin() {
+		return ColorFunctions.spin( color, 30 );
+	}
+
+	@Benchmark
+	public Color fade() {
+		return ColorFunctions.fade( color, 0.5f );
+	}
+
+	@Benchmark
+	public Color mix() {
+		return ColorFunctions.mix( color, color2, 0.3f );
+	}
+
+	@Benchmark
+	public Color tint() {
+		return ColorFunctions.tint( color, 0.3f );
+	}
+
+	@Benchmark
+	public Color shade() {
+		return ColorFunctions.shade( color, 0.3f );
+	}
+
+	@Benchmark
+	public float luma() {
+		return ColorFunctions.luma( color );
+	}
+
+	@Benchmark
+	public Color applyFunctions() {
+		return ColorFunctions.applyFunctions( color, functions );
+	}
+
+	@Benchmark
+	public int lightenInt() {
+		return ColorFunctions.lighten( argb, 0.1f );
+	}
+
+	@Benchmark
+	public int mixInt() {
+		return ColorFunctions.mix( argb, argb2, 0.3f );
+	}
+
+	@Benchmark
+	public int applyFunctionsInt() {
+		return ColorFunctions.applyFunctions( argb, functions );
+	}
+
+	/**
+	 * Simulates an animated hover: computes the background color for each animation step.
+	 */
+	@Benchmark
+	public void hoverAnimation( Blackhole bh ) {
+		for( int i = 1; i <= ANIMATION_STEPS; i++ )
+			bh.consume( ColorFunctions.mix( color, color2, (float) i / ANIMATION_STEPS ) );
+	}
+
+	@Benchmark
+	public void hoverAnimationInt( Blackhole bh ) {
+		for( int i = 1; i <= ANIMATION_STEPS; i++ )
+			bh.consume( ColorFunctions.mix( argb, argb2, (float) i / ANIMATION_STEPS ) );
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.formdev.flatlaf.benchmarks;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import com.formdev.flatlaf.ui.FlatUIUtils;
+
+/**
+ * Measures {@link FlatUIUtils#paintOutlinedComponent}, which paints
+ * focus border, border and background of most components (e.g. buttons and text fields).
+ *
+ * @author Karl Tauber
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( value = 1, jvmArgsAppend = "-Djava.awt.headless=true" )
+@State( Scope.Benchmark )
+public class OutlinedComponentPaintBenchmark
+{
+	private static final Color FOCUS_COLOR = new Color( 0x6697c8e8, true );
+	private static final Color BORDER_COLOR = new Color( 0x4c87c8 );
+	private static final Color BACKGROUND = Color.white;
+
+	/** arc; 0 is rectangle */
+	@Param( { "0", "6", "999" } )
+	public float arc;
+
+	/** whether component is focused (paints focus border) */
+	@Param( { "false", "true" } )
+	public boolean focused;
+
+	private BufferedImage image;
+	private Graphics2D g;
+
+	@Setup( Level.Trial )
+	public void setup() {
+		image = new BufferedImage( 120, 40, BufferedImage.TYPE_INT_ARGB );
+		g = image.createGraphics();
+		FlatUIUtils.setRenderingHints( g );
+	}
+
+	@TearDown( Level.Trial )
+	public void tearDown() {
+		g.dispose();
+	}
+
+	@Benchmark
+	public BufferedImage paint() {
+		FlatUIUtils.paintOutlinedComponent( g, 0, 0, 120, 40,
+			2, focused ? 1 : 0, 0, 1, arc,
+			FOCUS_COLOR, BORDER_COLOR, BACKGROUND );
+		return image;
+	}
+}
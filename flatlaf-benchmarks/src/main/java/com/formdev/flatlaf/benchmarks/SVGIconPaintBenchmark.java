@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.formdev.flatlaf.benchmarks;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import com.formdev.flatlaf.FlatLightLaf;
+import com.formdev.flatlaf.extras.FlatSVGIcon;
+
+/**
+ * Measures painting of SVG icons ({@link FlatSVGIcon#paintIcon}),
+ * e.g. used in trees or tables with many rows.
+ * <p>
+ * Parameter {@code scale} is the scale factor of the graphics context
+ * (e.g. 2 for HiDPI screens).
+ *
+ * @author Karl Tauber
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( value = 1, jvmArgsAppend = "-Djava.awt.headless=true" )
+@State( Scope.Benchmark )
+public class SVGIconPaintBenchmark
+{
+	@Param( { "1", "2" } )
+	public double scale;
+
+	@Param( { "false", "true" } )
+	public boolean disabled;
+
+	@Param( { "false", "true" } )
+	public boolean rasterCache;
+
+	private FlatSVGIcon icon;
+	private BufferedImage image;
+	private Graphics2D g;
+
+	@Setup( Level.Trial )
+	public void setup() {
+		FlatLightLaf.setup();
+		FlatSVGIcon.setRasterCacheEnabled( rasterCache );
+
+		icon = new FlatSVGIcon( "com/formdev/flatlaf/benchmarks/copy.svg" );
+		if( disabled )
+			icon = (FlatSVGIcon) icon.getDisabledIcon();
+		if( !icon.hasFound() )
+			throw new IllegalStateException( "icon not found" );
+
+		image = new BufferedImage( 32, 32, BufferedImage.TYPE_INT_ARGB );
+		g = image.createGraphics();
+		g.scale( scale, scale );
+	}
+
+	@TearDown( Level.Trial )
+	public void tearDown() {
+		g.dispose();
+		FlatSVGIcon.setRasterCacheEnabled( false );
+	}
+
+	@Benchmark
+	public BufferedImage paintIcon() {
+		icon.paintIcon( null, g, 0, 0 );
+		return image;
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.formdev.flatlaf.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.swing.JButton;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import com.formdev.flatlaf.FlatClientProperties;
+import com.formdev.flatlaf.FlatLightLaf;
+import com.formdev.flatlaf.ui.FlatStylingSupport;
+
+/**
+ * Measures parsing and applying of styles ({@link FlatStylingSupport}).
+ * <p>
+ * {@code parse} and {@code parseAndApply} use the style cache (same style string),
+ * {@code parseUncached} clears the cache before each parse.
+ * {@code applyToButton} alternately sets two styles on a button,
+ * which also restores old values and applies new values to the UI delegate.
+ *
+ * @author Karl Tauber
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( value = 1, jvmArgsAppend = "-Djava.awt.headless=true" )
+@State( Scope.Benchmark )
+public class StylingBenchmark
+{
+	private static final String STYLE = "arc: 12; borderWidth: 2; focusWidth: 1; "
+		+ "background: #e0e0e0; foreground: lighten(#000,20%); "
+		+ "focusedBorderColor: $Component.focusColor; margin: 4,8,4,8";
+	private static final String STYLE2 = "arc: 999; borderWidth: 1; background: #f0f0f0; margin: 2,14,2,14";
+
+	private JButton button;
+	private boolean toggle;
+
+	@Setup
+	public void setup() {
+		FlatLightLaf.setup();
+		button = new JButton( "Button" );
+	}
+
+	@Benchmark
+	public Map<String, Object> parse() {
+		return FlatStylingSupport.parse( STYLE );
+	}
+
+	@Benchmark
+	public Map<String, Object> parseUncached() {
+		FlatStylingSupport.clearStyleCache();
+		return FlatStylingSupport.parse( STYLE );
+	}
+
+	@Benchmark
+	public Map<String, Object> parseAndApply() {
+		return FlatStylingSupport.parseAndApply( null, STYLE, (key, value) -> null );
+	}
+
+	@Benchmark
+	public JButton applyToButton() {
+		toggle = !toggle;
+		button.putClientProperty( FlatClientProperties.STYLE, toggle ? STYLE : STYLE2 );
+		return button;
+	}
+}
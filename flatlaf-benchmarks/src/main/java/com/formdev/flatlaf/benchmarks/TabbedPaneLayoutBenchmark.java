@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.formdev.flatlaf.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import javax.swing.JPanel;
+import javax.swing.JTabbedPane;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import com.formdev.flatlaf.FlatLightLaf;
+import com.formdev.flatlaf.ui.FlatTabbedPaneUI;
+
+/**
+ * Measures layout of a tabbed pane with many tabs ({@link FlatTabbedPaneUI}),
+ * which computes tab bounds (and scroll buttons, etc.).
+ *
+ * @author Karl Tauber
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( value = 1, jvmArgsAppend = "-Djava.awt.headless=true" )
+@State( Scope.Benchmark )
+public class TabbedPaneLayoutBenchmark
+{
+	private static final int TAB_COUNT = 50;
+
+	@Param( { "wrap", "scroll" } )
+	public String tabLayoutPolicy;
+
+	private JTabbedPane tabbedPane;
+
+	@Setup( Level.Trial )
+	public void setup() {
+		FlatLightLaf.setup();
+
+		tabbedPane = new JTabbedPane();
+		tabbedPane.setTabLayoutPolicy( "scroll".equals( tabLayoutPolicy )
+			? JTabbedPane.SCROLL_TAB_LAYOUT
+			: JTabbedPane.WRAP_TAB_LAYOUT );
+		for( int i = 0; i < TAB_COUNT; i++ )
+			tabbedPane.addTab( "Tab " + i, new JPanel() );
+		tabbedPane.setSelectedIndex( TAB_COUNT / 2 );
+		tabbedPane.setSize( 800, 400 );
+	}
+
+	@Benchmark
+	public JTabbedPane layout() {
+		tabbedPane.invalidate();
+		tabbedPane.doLayout();
+		return tabbedPane;
+	}
+}
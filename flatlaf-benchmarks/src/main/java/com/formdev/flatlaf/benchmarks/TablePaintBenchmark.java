@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.formdev.flatlaf.benchmarks;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+import javax.swing.JTable;
+import javax.swing.table.DefaultTableModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import com.formdev.flatlaf.FlatLightLaf;
+import com.formdev.flatlaf.ui.FlatTableUI;
+
+/**
+ * Measures painting of a large table ({@link FlatTableUI#paint}),
+ * including cells and grid lines, into a buffered image.
+ * <p>
+ * Parameter {@code size}:
+ * <ul>
+ *   <li>{@code 10000x6} paints the visible part (600x400) of a table with many rows
+ *   <li>{@code 200x30} paints the whole table (e.g. full repaint on large screen);
+ *       many grid lines
+ * </ul>
+ *
+ * @author Karl Tauber
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( value = 1, jvmArgsAppend = "-Djava.awt.headless=true" )
+@State( Scope.Benchmark )
+public class TablePaintBenchmark
+{
+	private static final int WIDTH = 600;
+	private static final int HEIGHT = 400;
+
+	@Param( { "10000x6", "200x30" } )
+	public String size;
+
+	@Param( { "false", "true" } )
+	public boolean showGrid;
+
+	private JTable table;
+	private BufferedImage image;
+	private Graphics2D g;
+
+	@Setup( Level.Trial )
+	public void setup() {
+		FlatLightLaf.setup();
+
+		int sep = size.indexOf( 'x' );
+		int rows = Integer.parseInt( size.substring( 0, sep ) );
+		int columns = Integer.parseInt( size.substring( sep + 1 ) );
+
+		DefaultTableModel model = new DefaultTableModel( rows, columns );
+		for( int row = 0; row < rows; row++ ) {
+			for( int col = 0; col < columns; col++ )
+				model.setValueAt( "cell " + row + "," + col, row, col );
+		}
+
+		table = new JTable( model );
+		table.setShowGrid( showGrid );
+		table.setRowSelectionInterval( 5, 7 );
+		table.setSize( Math.max( WIDTH, columns * 75 ), table.getPreferredSize().height );
+		table.doLayout();
+
+		// paint visible part of tables with many rows, otherwise whole table
+		int width = table.getWidth();
+		int height = (rows > 1000) ? HEIGHT : table.getHeight();
+		image = new BufferedImage( width, height, BufferedImage.TYPE_INT_ARGB );
+		g = image.createGraphics();
+		g.setClip( 0, 0, width, height );
+	}
+
+	@TearDown( Level.Trial )
+	public void tearDown() {
+		g.dispose();
+	}
+
+	@Benchmark
+	public BufferedImage paint() {
+		table.paint( g );
+		return image;
+	}
+}
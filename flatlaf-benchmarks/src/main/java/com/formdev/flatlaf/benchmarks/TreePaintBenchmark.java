@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.formdev.flatlaf.benchmarks;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+import javax.swing.JTree;
+import javax.swing.UIManager;
+import javax.swing.tree.DefaultMutableTreeNode;
+import javax.swing.tree.DefaultTreeModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import com.formdev.flatlaf.FlatLightLaf;
+import com.formdev.flatlaf.ui.FlatTreeUI;
+
+/**
+ * Measures painting of the visible part (600x400) of a large expanded tree
+ * with 100,000 nodes ({@link FlatTreeUI#paint}) into a buffered image.
+ * <p>
+ * Run with JMH option {@code -prof gc} to measure the allocation rate
+ * (e.g. {@code -Pjmh.args="TreePaintBenchmark -prof gc"}).
+ *
+ * @author Karl Tauber
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( value = 1, jvmArgsAppend = "-Djava.awt.headless=true" )
+@State( Scope.Benchmark )
+public class TreePaintBenchmark
+{
+	private static final int WIDTH = 600;
+	private static final int HEIGHT = 400;
+
+	@Param( { "true", "false" } )
+	public boolean paintLines;
+
+	private JTree tree;
+	private BufferedImage image;
+	private Graphics2D g;
+
+	@Setup( Level.Trial )
+	public void setup() {
+		FlatLightLaf.setup();
+		UIManager.put( "Tree.paintLines", paintLines );
+
+		DefaultMutableTreeNode root = new DefaultMutableTreeNode( "root" );
+		for( int i = 0; i < 1000; i++ ) {
+			DefaultMutableTreeNode node = new DefaultMutableTreeNode( "node " + i );
+			for( int j = 0; j < 100; j++ )
+				node.add( new DefaultMutableTreeNode( "leaf " + i + "," + j ) );
+			root.add( node );
+		}
+
+		tree = new JTree( new DefaultTreeModel( root ) );
+		for( int row = tree.getRowCount() - 1; row >= 0; row-- )
+			tree.expandRow( row );
+		tree.setSize( WIDTH, tree.getPreferredSize().height );
+
+		// paint visible part in the middle of the tree
+		int y = tree.getHeight() / 2;
+		image = new BufferedImage( WIDTH, HEIGHT, BufferedImage.TYPE_INT_ARGB );
+		g = image.createGraphics();
+		g.translate( 0, -y );
+		g.setClip( 0, y, WIDTH, HEIGHT );
+	}
+
+	@TearDown( Level.Trial )
+	public void tearDown() {
+		g.dispose();
+		UIManager.put( "Tree.paintLines", null );
+	}
+
+	@Benchmark
+	public BufferedImage paint() {
+		tree.paint( g );
+		return image;
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf.benchmarks;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+import javax.swing.UIDefaults;
+import javax.swing.UIManager;
+import javax.swing.UnsupportedLookAndFeelException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import com.formdev.flatlaf.FlatLightLaf;
+
+/**
+ * Measures lookup of UI defaults values that are read while painting,
+ * using {@link UIManager} (as UI delegates do), which asks
+ * the look and feel defaults after the (empty) user defaults.
+ * <p>
+ * Parameter {@code defaults}:
+ * <ul>
+ *   <li>{@code flatlaf} uses the UI defaults created by FlatLaf (lock-free lookups)
+ *   <li>{@code hashtable} uses a plain {@link UIDefaults} with same content
+ *       (synchronized hash table; the behavior before lock-free lookups)
+ * </ul>
+ *
+ * @author Karl Tauber
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( value = 1, jvmArgsAppend = "-Djava.awt.headless=true" )
+@State( Scope.Benchmark )
+public class UIDefaultsLookupBenchmark
+{
+	private static final String[] COLOR_KEYS = {
+		"Button.background",
+		"Label.foreground",
+		"Component.borderColor",
+		"Table.gridColor",
+	};
+
+	private static final String[] KEYS = {
+		"Component.grayFilter",
+		"ScrollPane.smoothScrolling",
+		"Button.background",
+		"Component.focusWidth",
+		"Label.foreground",
+		"Table.showHorizontalLines",
+		"Tree.paintLines",
+		"Component.arc",
+	};
+
+	@Param( { "flatlaf", "hashtable" } )
+	public String defaults;
+
+	@Setup
+	public void setup() throws UnsupportedLookAndFeelException {
+		if( "hashtable".equals( defaults ) ) {
+			UIManager.setLookAndFeel( new FlatLightLaf() {
+				@Override
+				public UIDefaults getDefaults() {
+					// copy raw values (without resolving lazy values)
+					UIDefaults table = new UIDefaults( 1500, 0.75f );
+					table.putAll( new HashMap<>( super.getDefaults() ) );
+					return table;
+				}
+			} );
+		} else
+			UIManager.setLookAndFeel( new FlatLightLaf() );
+
+		// resolve lazy values
+		for( String key : KEYS )
+			UIManager.get( key );
+		for( String key : COLOR_KEYS )
+			UIManager.getColor( key );
+	}
+
+	@Benchmark
+	public void get( Blackhole bh ) {
+		for( String key : KEYS )
+			bh.consume( UIManager.get( key ) );
+	}
+
+	@Benchmark
+	public void getColor( Blackhole bh ) {
+		for( String key : COLOR_KEYS )
+			bh.consume( UIManager.getColor( key ) );
+	}
+
+	@Benchmark
+	@Threads( 4 )
+	public void getConcurrent( Blackhole bh ) {
+		for( String key : KEYS )
+			bh.consume( UIManager.get( key ) );
+	}
+}
@@ -39,6 +39,25 @@ java {
 	withJavadocJar()
 }
 
+// generate resource that contains FlatLaf version
+// (manifest attributes are not available if FlatLaf is used as named module)
+val generateVersionResource = tasks.register( "generateVersionResource" ) {
+	val version = project.version.toString()
+	val outputDir = layout.buildDirectory.dir( "generated/resources/version" )
+	inputs.property( "version", version )
+	outputs.dir( outputDir )
+
+	doLast {
+		val file = outputDir.get().file( "com/formdev/flatlaf/resources/version.properties" ).asFile
+		file.parentFile.mkdirs()
+		file.writeText( "version=${version}\n" )
+	}
+}
+
+sourceSets.main {
+	resources.srcDir( generateVersionResource )
+}
+
 tasks {
 	compileJava {
 		// generate JNI headers
@@ -91,7 +110,8 @@ tasks {
 		testLogging.exceptionFormat = org.gradle.api.tasks.testing.logging.TestExceptionFormat.FULL
 
 		if( JavaVersion.current() >= JavaVersion.VERSION_1_9 )
-			jvmArgs( listOf( "--add-opens", "java.desktop/javax.swing.plaf.basic=ALL-UNNAMED" ) )
+			jvmArgs( listOf( "--add-opens", "java.desktop/javax.swing.plaf.basic=ALL-UNNAMED",
+				"--add-opens", "java.desktop/javax.swing.text=ALL-UNNAMED" ) )
 	}
 
 	register( "sigtestGenerate" ) {
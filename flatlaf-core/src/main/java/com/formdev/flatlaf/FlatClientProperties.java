@@ -721,6 +721,17 @@ public interface FlatClientProperties
 	 */
 	String SCROLL_PANE_SMOOTH_SCROLLING = "JScrollPane.smoothScrolling";
 
+	/**
+	 * Specifies whether the scroll pane animates scrolling with the mouse wheel or trackpad.
+	 * Requires that smooth scrolling is enabled (see {@link #SCROLL_PANE_SMOOTH_SCROLLING}).
+	 * <p>
+	 * <strong>Component</strong> {@link javax.swing.JScrollPane}<br>
+	 * <strong>Value type</strong> {@link java.lang.Boolean}
+	 *
+	 * @since 3.7
+	 */
+	String SCROLL_PANE_ANIMATED_SCROLLING = "JScrollPane.animatedScrolling";
+
 
 	//---- JSplitPane ---------------------------------------------------------
 
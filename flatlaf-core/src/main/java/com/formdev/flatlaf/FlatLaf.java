@@ -18,6 +18,7 @@ package com.formdev.flatlaf;
 
 import java.awt.Color;
 import java.awt.Component;
+import java.awt.Container;
 import java.awt.EventQueue;
 import java.awt.Font;
 import java.awt.GraphicsEnvironment;
@@ -25,12 +26,16 @@ import java.awt.Image;
 import java.awt.RenderingHints;
 import java.awt.Toolkit;
 import java.awt.Window;
+import java.awt.image.BufferedImage;
 import java.awt.image.FilteredImageSource;
 import java.awt.image.ImageFilter;
 import java.awt.image.ImageProducer;
+import java.awt.image.RGBImageFilter;
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.Method;
 import java.net.URL;
 import java.util.ArrayList;
@@ -42,10 +47,13 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.MissingResourceException;
+import java.util.Objects;
 import java.util.Properties;
 import java.util.ResourceBundle;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.IntUnaryOperator;
@@ -55,7 +63,9 @@ import javax.swing.ImageIcon;
 import javax.swing.JComponent;
 import javax.swing.JDialog;
 import javax.swing.JFrame;
+import javax.swing.JMenu;
 import javax.swing.JMenuBar;
+import javax.swing.JPopupMenu;
 import javax.swing.LookAndFeel;
 import javax.swing.PopupFactory;
 import javax.swing.RootPaneContainer;
@@ -77,6 +87,7 @@ import javax.swing.text.html.HTMLEditorKit;
 import com.formdev.flatlaf.ui.FlatNativeWindowBorder;
 import com.formdev.flatlaf.ui.FlatPopupFactory;
 import com.formdev.flatlaf.ui.FlatRootPaneUI;
+import com.formdev.flatlaf.ui.FlatStylingSupport;
 import com.formdev.flatlaf.ui.FlatUIUtils;
 import com.formdev.flatlaf.ui.JavaCompatibility2;
 import com.formdev.flatlaf.ui.FlatStylingSupport.StyleableUI;
@@ -111,6 +122,9 @@ public abstract class FlatLaf
 
 	private static boolean aquaLoaded;
 	private static boolean updateUIPending;
+	private static String buildVersion;
+
+	private static final Map<Image, DisabledImage> disabledImageCache = new WeakHashMap<>();
 
 	private PopupFactory oldPopupFactory;
 	private MnemonicHandler mnemonicHandler;
@@ -120,6 +134,9 @@ public abstract class FlatLaf
 	private Consumer<UIDefaults> postInitialization;
 	private List<Function<Object, Object>> uiDefaultsGetters;
 
+	// time used in initialize() (for metrics)
+	private long initializeTime;
+
 	private static String preferredFontFamily;
 	private static String preferredLightFontFamily;
 	private static String preferredSemiboldFontFamily;
@@ -266,23 +283,82 @@ public abstract class FlatLaf
 		}
 
 		if( icon instanceof ImageIcon ) {
+			// (use shared fallback filter so that disabled images are cached)
 			Object grayFilter = UIManager.get( "Component.grayFilter" );
 			ImageFilter filter = (grayFilter instanceof ImageFilter)
 				? (ImageFilter) grayFilter
-				: GrayFilter.createDisabledIconFilter( isDark() ); // fallback
-
-			Function<Image, Image> mapper = img -> {
-				ImageProducer producer = new FilteredImageSource( img.getSource(), filter );
-				return Toolkit.getDefaultToolkit().createImage( producer );
-			};
+				: GrayFilter.getDisabledIconFilter( isDark() );
 
 			Image image = ((ImageIcon)icon).getImage();
-			return new ImageIconUIResource( MultiResolutionImageSupport.map( image, mapper ) );
+			return new ImageIconUIResource( getDisabledImage( image, filter ) );
 		}
 
 		return null;
 	}
 
+	/**
+	 * Returns a filtered (disabled) image for the given image.
+	 * Multi-resolution images are filtered per resolution variant.
+	 */
+	private static Image getDisabledImage( Image image, ImageFilter filter ) {
+		return MultiResolutionImageSupport.map( image, img -> getDisabledVariant( img, filter ) );
+	}
+
+	/**
+	 * Returns a filtered (disabled) image for the given (single-resolution) image.
+	 * <p>
+	 * Buffered images filtered with a gray filter are filtered immediately
+	 * and cached as long as the given image is strongly reachable
+	 * and the same filter is used.
+	 * The cached image does not reference the given image.
+	 * <p>
+	 * Other images (e.g. loaded by toolkit, which may be animated)
+	 * or other filters (which may override other methods than
+	 * {@link RGBImageFilter#filterRGB(int, int, int)}) use an image producer/consumer
+	 * pipeline and are not cached, because the filtered image references the given image.
+	 */
+	private static Image getDisabledVariant( Image image, ImageFilter filter ) {
+		if( !(image instanceof BufferedImage) || !canFilterPixels( filter ) ) {
+			ImageProducer producer = new FilteredImageSource( image.getSource(), filter );
+			return Toolkit.getDefaultToolkit().createImage( producer );
+		}
+
+		synchronized( disabledImageCache ) {
+			DisabledImage disabledImage = disabledImageCache.get( image );
+			if( disabledImage != null && disabledImage.filter == filter )
+				return disabledImage.image;
+		}
+
+		BufferedImage filteredImage = filterPixels( (BufferedImage) image, (RGBImageFilter) filter );
+
+		synchronized( disabledImageCache ) {
+			disabledImageCache.put( image, new DisabledImage( filter, filteredImage ) );
+		}
+		return filteredImage;
+	}
+
+	private static boolean canFilterPixels( ImageFilter filter ) {
+		// only known filters that implement filterRGB() and do not override other methods
+		Class<?> filterClass = filter.getClass();
+		return filterClass == GrayFilter.class || filterClass == javax.swing.GrayFilter.class;
+	}
+
+	private static BufferedImage filterPixels( BufferedImage image, RGBImageFilter filter ) {
+		// filter pixels of buffered images directly, which is much faster than using
+		// an image producer/consumer pipeline and creates the image immediately
+		int width = image.getWidth();
+		int height = image.getHeight();
+		int[] pixels = image.getRGB( 0, 0, width, height, null, 0, width );
+		for( int y = 0, i = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++, i++ )
+				pixels[i] = filter.filterRGB( x, y, pixels[i] );
+		}
+
+		BufferedImage filteredImage = new BufferedImage( width, height, BufferedImage.TYPE_INT_ARGB );
+		filteredImage.setRGB( 0, 0, width, height, pixels, 0, width );
+		return filteredImage;
+	}
+
 	@Override
 	public void initialize() {
 		// do not initialize if this is not the current look and feel
@@ -294,6 +370,8 @@ public abstract class FlatLaf
 		if( UIManager.getLookAndFeel() != this )
 			return;
 
+		long startTime = System.nanoTime();
+
 		if( SystemInfo.isMacOS )
 			initializeAqua();
 
@@ -361,13 +439,19 @@ public abstract class FlatLaf
 		// Do not move this code to getDefaults() to avoid side effects in the case that
 		// getDefaults() is directly invoked from 3rd party code. E.g. `new FlatLightLaf().getDefaults()`.
 		postInitialization = defaults -> {
-			// update link color in HTML text
-			Color linkColor = defaults.getColor( "Component.linkColor" );
-			if( linkColor != null ) {
-				new HTMLEditorKit().getStyleSheet().addRule(
-					String.format( "a, address { color: #%06x; }", linkColor.getRGB() & 0xffffff ) );
-			}
+			updateLinkColor( defaults );
 		};
+
+		initializeTime = System.nanoTime() - startTime;
+	}
+
+	private static void updateLinkColor( UIDefaults defaults ) {
+		// update link color in HTML text
+		Color linkColor = defaults.getColor( "Component.linkColor" );
+		if( linkColor != null ) {
+			new HTMLEditorKit().getStyleSheet().addRule(
+				String.format( "a, address { color: #%06x; }", linkColor.getRGB() & 0xffffff ) );
+		}
 	}
 
 	@Override
@@ -460,9 +544,11 @@ public abstract class FlatLaf
 
 	@Override
 	public UIDefaults getDefaults() {
+		long startTime = System.nanoTime();
+
 		// use larger initial capacity to avoid resizing UI defaults hash table
 		// (from 610 to 1221 to 2443 entries) and to save some memory
-		UIDefaults defaults = new FlatUIDefaults( 1500, 0.75f );
+		FlatUIDefaults defaults = new FlatUIDefaults( 1500, 0.75f );
 
 		// initialize basic defaults (see super.getDefaults())
 		initClassDefaults( defaults );
@@ -516,19 +602,16 @@ public abstract class FlatLaf
 		defaults.put( "InternalFrame.icon", icon );
 		defaults.put( "TitlePane.icon", icon ); // no longer used, but keep for compatibility
 
-		// get addons and sort them by priority
-		ServiceLoader<FlatDefaultsAddon> addonLoader = ServiceLoader.load( FlatDefaultsAddon.class );
-		List<FlatDefaultsAddon> addons = new ArrayList<>();
-		for( FlatDefaultsAddon addon : addonLoader )
-			addons.add( addon );
-		addons.sort( (addon1, addon2) -> addon1.getPriority() - addon2.getPriority() );
+		// get addons
+		List<FlatDefaultsAddon> addons = loadAddons();
+
+		long basicDefaultsTime = System.nanoTime() - startTime;
 
 		// load defaults from properties
-		List<Class<?>> lafClassesForDefaultsLoading = getLafClassesForDefaultsLoading();
-		if( lafClassesForDefaultsLoading == null )
-			lafClassesForDefaultsLoading = UIDefaultsLoader.getLafClassesForDefaultsLoading( getClass() );
-		UIDefaultsLoader.loadDefaultsFromProperties( lafClassesForDefaultsLoading, addons,
+		defaults.recordLazyValueKeys = true;
+		defaults.loadedProperties = UIDefaultsLoader.loadDefaultsFromProperties( lafClassesForDefaultsLoading(), addons,
 			this::applyAdditionalProperties, getAdditionalDefaults(), isDark(), defaults );
+		defaults.recordLazyValueKeys = false;
 
 		// setup default font after loading defaults from properties
 		// to allow defining "defaultFont" in properties
@@ -546,8 +629,10 @@ public abstract class FlatLaf
 		putAATextInfo( defaults );
 
 		// allow addons modifying UI defaults
+		long addonsStartTime = System.nanoTime();
 		for( FlatDefaultsAddon addon : addons )
 			addon.afterDefaultsLoading( this, defaults );
+		long addonsTime = System.nanoTime() - addonsStartTime;
 
 		// add user scale factor to allow layout managers (e.g. MigLayout) to use it
 		defaults.put( "laf.scaleFactor", (ActiveValue) t -> {
@@ -562,9 +647,93 @@ public abstract class FlatLaf
 			postInitialization = null;
 		}
 
+		// enable lock-free lookups
+		defaults.publishReadTable();
+
+		if( FlatLafMetrics.isEnabled() ) {
+			UIDefaultsLoader.LoadedProperties loaded = defaults.loadedProperties;
+			FlatLafMetrics.fireDefaultsLoaded( new FlatLafMetrics.DefaultsLoaded( getName(), getClass().getName(),
+				initializeTime, basicDefaultsTime,
+				(loaded != null) ? loaded.loadTime : 0,
+				(loaded != null) ? loaded.parseTime : 0,
+				addonsTime, System.nanoTime() - startTime,
+				(loaded != null) ? loaded.properties.size() : 0,
+				defaults.size(),
+				(loaded != null) ? loaded.parseErrorCount : 0,
+				(loaded != null) ? loaded.colorCount : 0,
+				(loaded != null) ? loaded.distinctColorCount : 0 ) );
+		}
+
 		return defaults;
 	}
 
+	/**
+	 * Reloads properties files and updates only changed UI defaults.
+	 *
+	 * @return keys of changed UI defaults; or {@code null} if incremental update is not possible
+	 */
+	private Set<String> updateDefaults( FlatUIDefaults defaults ) {
+		if( defaults.loadedProperties == null )
+			return null;
+
+		defaults.beginIncrementalUpdate();
+
+		// avoid copying read table on each change
+		defaults.unpublishReadTable();
+		defaults.recordLazyValueKeys = true;
+		try {
+			return updateDefaults0( defaults );
+		} finally {
+			defaults.recordLazyValueKeys = false;
+			defaults.publishReadTable();
+		}
+	}
+
+	private Set<String> updateDefaults0( FlatUIDefaults defaults ) {
+		List<FlatDefaultsAddon> addons = loadAddons();
+		Set<String> changedKeys = UIDefaultsLoader.updateDefaultsFromProperties(
+			lafClassesForDefaultsLoading(), addons, this::applyAdditionalProperties,
+			getAdditionalDefaults(), isDark(), defaults.loadedProperties, defaults );
+		if( changedKeys == null || changedKeys.isEmpty() )
+			return changedKeys;
+
+		// allow addons modifying UI defaults again
+		changedKeys.addAll( defaults.recordChangedKeys( () -> {
+			for( FlatDefaultsAddon addon : addons )
+				addon.afterDefaultsLoading( this, defaults );
+		} ) );
+
+		// already created lazy values (e.g. borders or icons) may use changed UI defaults
+		defaults.resetAffectedLazyValues( changedKeys );
+
+		if( changedKeys.contains( "Component.linkColor" ) )
+			updateLinkColor( defaults );
+
+		// parsed styles may use changed UI defaults
+		FlatStylingSupport.clearStyleCache();
+
+		return changedKeys;
+	}
+
+	/**
+	 * Returns addons sorted by priority.
+	 */
+	private static List<FlatDefaultsAddon> loadAddons() {
+		ServiceLoader<FlatDefaultsAddon> addonLoader = ServiceLoader.load( FlatDefaultsAddon.class );
+		List<FlatDefaultsAddon> addons = new ArrayList<>();
+		for( FlatDefaultsAddon addon : addonLoader )
+			addons.add( addon );
+		addons.sort( (addon1, addon2) -> addon1.getPriority() - addon2.getPriority() );
+		return addons;
+	}
+
+	private List<Class<?>> lafClassesForDefaultsLoading() {
+		List<Class<?>> lafClassesForDefaultsLoading = getLafClassesForDefaultsLoading();
+		if( lafClassesForDefaultsLoading == null )
+			lafClassesForDefaultsLoading = UIDefaultsLoader.getLafClassesForDefaultsLoading( getClass() );
+		return lafClassesForDefaultsLoading;
+	}
+
 	// apply additional properties (e.g. from IntelliJ themes)
 	void applyAdditionalProperties( Properties properties ) {
 	}
@@ -1237,8 +1406,50 @@ public abstract class FlatLaf
 	 * Invoke after changing LaF.
 	 */
 	public static void updateUI() {
-		for( Window w : Window.getWindows() )
+		IncrementalUIUpdater.cancel();
+
+		long startTime = System.nanoTime();
+
+		Window[] windows = Window.getWindows();
+		for( Window w : windows )
 			SwingUtilities.updateComponentTreeUI( w );
+
+		if( FlatLafMetrics.isEnabled() )
+			FlatLafMetrics.fireUIUpdated( windows, System.nanoTime() - startTime );
+	}
+
+	/**
+	 * Update UI of all application windows incrementally in small time slices,
+	 * which keeps the application responsive while updating large component trees.
+	 * Invoke after changing LaF. Updating starts in a later event.
+	 * <p>
+	 * Components that are visible on screen are updated first,
+	 * followed by components that are scrolled out of view.
+	 * Hidden components (e.g. non-selected tabs or cards, popup menus or hidden windows)
+	 * are updated last, or immediately when they become showing.
+	 * <p>
+	 * Use {@link #invokeWhenVisibleUIUpdated(Runnable)} to run code after
+	 * all visible components have been updated.
+	 * <p>
+	 * Must be invoked on the event dispatching thread.
+	 *
+	 * @since 3.7
+	 */
+	public static void updateUIIncrementally() {
+		IncrementalUIUpdater.start( Window.getWindows(), null );
+	}
+
+	/**
+	 * Runs the given runnable after {@link #updateUIIncrementally()} has updated
+	 * all visible components. If no incremental UI update is running,
+	 * the runnable is invoked immediately.
+	 * <p>
+	 * Must be invoked on the event dispatching thread.
+	 *
+	 * @since 3.7
+	 */
+	public static void invokeWhenVisibleUIUpdated( Runnable runnable ) {
+		IncrementalUIUpdater.invokeWhenVisibleUpdated( runnable );
 	}
 
 	/**
@@ -1260,6 +1471,99 @@ public abstract class FlatLaf
 		} );
 	}
 
+	/**
+	 * Reloads the properties files (including custom defaults sources and extra defaults)
+	 * of the current look and feel, updates only those UI defaults that have changed
+	 * or reference (directly or indirectly) changed properties or variables,
+	 * and updates the UI of those components that use changed UI defaults.
+	 * <p>
+	 * This is much faster than re-setting the current look and feel,
+	 * which parses all UI defaults again and updates the UI of all components.
+	 * Use it after changing extra defaults or custom defaults sources. E.g.:
+	 * <pre>{@code
+	 * FlatLaf.setGlobalExtraDefaults( Collections.singletonMap( "@accentColor", "#f00" ) );
+	 * FlatLaf.updateDefaults();
+	 * }</pre>
+	 * If an incremental update is not possible (e.g. because properties were removed
+	 * or the default font changed), then the current look and feel is re-set
+	 * and the UI of all components is updated (later).
+	 * <p>
+	 * The UI defaults used by components are recorded beginning with the first
+	 * invocation of this method. So the first invocation updates the UI of all components.
+	 * <p>
+	 * {@link FlatDefaultsAddon#afterDefaultsLoading(LookAndFeel, UIDefaults)}
+	 * is invoked again on incremental updates.
+	 * <p>
+	 * Must be invoked on the event dispatching thread.
+	 *
+	 * @since 3.7
+	 */
+	public static void updateDefaults() {
+		updateDefaults( Window.getWindows() );
+	}
+
+	/**
+	 * Updates UI defaults and the UI of the given root components (for testing).
+	 */
+	static void updateDefaults( Component[] roots ) {
+		LookAndFeel lookAndFeel = UIManager.getLookAndFeel();
+		if( !(lookAndFeel instanceof FlatLaf) )
+			return;
+
+		UIDefaults defaults = UIManager.getLookAndFeelDefaults();
+		Set<String> changedKeys = (defaults instanceof FlatUIDefaults)
+			? ((FlatLaf)lookAndFeel).updateDefaults( (FlatUIDefaults) defaults )
+			: null;
+		if( changedKeys == null ) {
+			reSetLookAndFeel();
+			return;
+		}
+		if( changedKeys.isEmpty() )
+			return;
+
+		// update UI of components that use changed UI defaults
+		FlatUIDefaults flatDefaults = (FlatUIDefaults) defaults;
+		for( Component c : roots ) {
+			if( updateComponentTreeUI( c, changedKeys, flatDefaults ) ) {
+				c.invalidate();
+				c.validate();
+			}
+			c.repaint();
+		}
+	}
+
+	/**
+	 * Similar to SwingUtilities.updateComponentTreeUI(), but updates UI only
+	 * if the UI delegate uses changed UI defaults (or if this is not yet known).
+	 *
+	 * @return whether UI of at least one component was updated
+	 */
+	private static boolean updateComponentTreeUI( Component c, Set<String> changedKeys, FlatUIDefaults defaults ) {
+		boolean updated = false;
+		if( c instanceof JComponent ) {
+			JComponent jc = (JComponent) c;
+			if( defaults.updateUIIfNecessary( jc, changedKeys ) )
+				updated = true;
+
+			JPopupMenu popupMenu = jc.getComponentPopupMenu();
+			if( popupMenu != null && updateComponentTreeUI( popupMenu, changedKeys, defaults ) )
+				updated = true;
+		}
+
+		Component[] children = null;
+		if( c instanceof JMenu )
+			children = ((JMenu)c).getMenuComponents();
+		else if( c instanceof Container )
+			children = ((Container)c).getComponents();
+		if( children != null ) {
+			for( Component child : children ) {
+				if( updateComponentTreeUI( child, changedKeys, defaults ) )
+					updated = true;
+			}
+		}
+		return updated;
+	}
+
 	/**
 	 * Returns whether native window decorations are supported on current platform.
 	 * <p>
@@ -1578,6 +1882,34 @@ public abstract class FlatLaf
 		FlatLaf.preferredMonospacedFontFamily = preferredMonospacedFontFamily;
 	}
 
+	/**
+	 * Returns the FlatLaf version, which is generated into a resource at build time;
+	 * or an empty string if unknown (e.g. if running from IDE without Gradle build).
+	 * <p>
+	 * Unlike {@link Package#getImplementationVersion()}, which reads the JAR manifest,
+	 * this also works if FlatLaf is used as named module.
+	 */
+	static synchronized String getBuildVersion() {
+		if( buildVersion != null )
+			return buildVersion;
+
+		String version = null;
+		try( InputStream in = FlatLaf.class.getResourceAsStream( "resources/version.properties" ) ) {
+			if( in != null ) {
+				Properties properties = new Properties();
+				properties.load( in );
+				version = properties.getProperty( "version" );
+			}
+		} catch( IOException ex ) {
+			LoggingFacade.INSTANCE.logSevere( "FlatLaf: Failed to read version.", ex );
+		}
+		if( version == null )
+			version = FlatLaf.class.getPackage().getImplementationVersion();
+
+		buildVersion = (version != null) ? version : "";
+		return buildVersion;
+	}
+
 	//---- class FlatUIDefaults -----------------------------------------------
 
 	private class FlatUIDefaults
@@ -1585,6 +1917,43 @@ public abstract class FlatLaf
 	{
 		private UIDefaults metalDefaults;
 
+		/** number of lookups that are not lock-free before the read table is rebuilt */
+		private static final int READ_TABLE_REBUILD_LOOKUPS = 256;
+
+		/** loaded properties (necessary for incremental updates); or {@code null} */
+		UIDefaultsLoader.LoadedProperties loadedProperties;
+
+		/** whether used keys are recorded (enabled on first incremental update) */
+		private boolean recordKeys;
+		/** component --> keys used by its UI delegate (recorded when UI is updated on incremental update) */
+		private final Map<JComponent, Set<Object>> componentKeys = new WeakHashMap<>();
+		/** used to share equal key sets between components (cleared on each incremental update) */
+		private final Map<Set<Object>, Set<Object>> sharedKeySets = new HashMap<>();
+		/** key --> keys used to create lazy value (recorded when lazy value is created) */
+		private final Map<String, Set<Object>> lazyValueKeys = new ConcurrentHashMap<>();
+		/** whether lazy values added with put() should record used keys when created */
+		boolean recordLazyValueKeys;
+		/** keys of values changed with put() or remove(); or {@code null} */
+		private Set<String> changedKeys;
+		/** current recording of used keys; or {@code null} */
+		private KeyRecording keyRecording;
+
+		/**
+		 * Immutable copy of (non-lazy) values for lock-free lookups; or {@code null}.
+		 * Enabled after loading defaults. Modifications via put(), putDefaults(),
+		 * remove() or clear() invalidate it (while holding the lock).
+		 * It is rebuilt lazily after some lookups that were not lock-free,
+		 * which avoids copying it on each modification.
+		 * Other modifications (e.g. via key set or entry set) are not supported.
+		 */
+		private volatile UIDefaultsReadTable readTable;
+		/** whether lock-free lookups are enabled */
+		private volatile boolean readTableEnabled;
+		/** number of lookups that an up-to-date read table would have answered (not thread-safe) */
+		private int slowLookups;
+		/** whether put() or putDefaults() currently defer firing the property change event */
+		private boolean firePropertyChangeDeferred;
+
 		FlatUIDefaults( int initialCapacity, float loadFactor ) {
 			super( initialCapacity, loadFactor );
 		}
@@ -1596,10 +1965,30 @@ public abstract class FlatLaf
 
 		@Override
 		public Object get( Object key, Locale l ) {
+			// record used keys (only on event dispatching thread)
+			KeyRecording keyRecording = this.keyRecording;
+			if( keyRecording != null && EventQueue.isDispatchThread() )
+				keyRecording.keys.add( key );
+
 			Object value = getFromUIDefaultsGetters( key );
 			if( value != null )
 				return (value != NULL_VALUE) ? value : null;
 
+			// lock-free lookup
+			// (values in hash table take precedence over values in resource bundles,
+			// so the locale does not matter here)
+			UIDefaultsReadTable readTable = this.readTable;
+			if( readTable != null ) {
+				value = readTable.get( key );
+				if( value != null && value != UIDefaultsReadTable.LAZY_VALUE )
+					return value;
+
+				// lazy value is probably resolved now, but not yet in read table
+				if( value == UIDefaultsReadTable.LAZY_VALUE )
+					slowLookup();
+			} else if( readTableEnabled )
+				slowLookup();
+
 			value = super.get( key, l );
 			if( value != null )
 				return value;
@@ -1640,6 +2029,282 @@ public abstract class FlatLaf
 
 			return metalDefaults.get( key, l );
 		}
+
+		// Note: super.put() and super.putDefaults() fire property change events,
+		//       which are deferred until the lock is released
+		//       (the read table is invalidated before listeners are invoked)
+		@Override
+		public Object put( Object key, Object value ) {
+			if( key instanceof String ) {
+				lazyValueKeys.remove( key );
+				if( value instanceof LazyValue && recordLazyValueKeys )
+					value = new RecordingLazyValue( (String) key, (LazyValue) value );
+			}
+
+			Object oldValue;
+			synchronized( this ) {
+				firePropertyChangeDeferred = true;
+				try {
+					oldValue = super.put( key, value );
+				} finally {
+					firePropertyChangeDeferred = false;
+				}
+				invalidateReadTable();
+			}
+
+			if( key instanceof String )
+				super.firePropertyChange( (String) key, oldValue, value );
+			keyChanged( key, oldValue, value );
+			return oldValue;
+		}
+
+		@Override
+		public void putDefaults( Object[] keyValueList ) {
+			synchronized( this ) {
+				firePropertyChangeDeferred = true;
+				try {
+					super.putDefaults( keyValueList );
+				} finally {
+					firePropertyChangeDeferred = false;
+				}
+				invalidateReadTable();
+			}
+
+			super.firePropertyChange( "UIDefaults", null, null );
+		}
+
+		@Override
+		protected void firePropertyChange( String propertyName, Object oldValue, Object newValue ) {
+			// put() and putDefaults() fire the event after releasing the lock
+			if( firePropertyChangeDeferred && Thread.holdsLock( this ) )
+				return;
+
+			super.firePropertyChange( propertyName, oldValue, newValue );
+		}
+
+		@Override
+		public synchronized Object remove( Object key ) {
+			Object oldValue = super.remove( key );
+			invalidateReadTable();
+			if( key instanceof String )
+				lazyValueKeys.remove( key );
+			keyChanged( key, oldValue, null );
+			return oldValue;
+		}
+
+		@Override
+		public synchronized void clear() {
+			super.clear();
+			invalidateReadTable();
+			lazyValueKeys.clear();
+		}
+
+		private void keyChanged( Object key, Object oldValue, Object newValue ) {
+			Set<String> changedKeys = this.changedKeys;
+			if( changedKeys != null && key instanceof String && !Objects.equals( oldValue, newValue ) )
+				changedKeys.add( (String) key );
+		}
+
+		/**
+		 * Invokes the given runnable and returns the keys of values
+		 * changed in it with put() or remove().
+		 */
+		Set<String> recordChangedKeys( Runnable runnable ) {
+			Set<String> oldChangedKeys = changedKeys;
+			Set<String> keys = new HashSet<>();
+			changedKeys = keys;
+			try {
+				runnable.run();
+			} finally {
+				changedKeys = oldChangedKeys;
+			}
+			return keys;
+		}
+
+		synchronized void publishReadTable() {
+			readTableEnabled = true;
+			readTable = UIDefaultsReadTable.of( this );
+			slowLookups = 0;
+		}
+
+		synchronized void unpublishReadTable() {
+			readTableEnabled = false;
+			readTable = null;
+		}
+
+		/**
+		 * Invoked while holding the lock.
+		 */
+		private void invalidateReadTable() {
+			readTable = null;
+			slowLookups = 0;
+		}
+
+		private void slowLookup() {
+			// rebuild read table after some lookups (instead of copying it on each modification)
+			if( ++slowLookups >= READ_TABLE_REBUILD_LOOKUPS ) {
+				synchronized( this ) {
+					if( readTableEnabled && slowLookups >= READ_TABLE_REBUILD_LOOKUPS )
+						publishReadTable();
+				}
+			}
+		}
+
+		/**
+		 * Invoked on each incremental update.
+		 * Enables recording of used keys on first incremental update.
+		 * Used keys of components and lazy values are not recorded before,
+		 * which avoids the recording overhead if incremental updates are not used.
+		 */
+		void beginIncrementalUpdate() {
+			recordKeys = true;
+			sharedKeySets.clear();
+		}
+
+		private KeyRecording beginKeyRecording() {
+			keyRecording = new KeyRecording( keyRecording );
+			return keyRecording;
+		}
+
+		/**
+		 * Ends the given recording and adds the recorded keys to the parent recording.
+		 * Also ends recordings that were begun later, but not ended
+		 * (e.g. because installing a UI delegate failed).
+		 *
+		 * @return whether the given recording was active
+		 */
+		private boolean endKeyRecording( KeyRecording recording ) {
+			for( KeyRecording r = keyRecording; r != null; r = r.parent ) {
+				if( r != recording )
+					continue;
+
+				KeyRecording top;
+				do {
+					top = keyRecording;
+					keyRecording = top.parent;
+					if( top.parent != null )
+						top.parent.keys.addAll( top.keys );
+				} while( top != recording );
+				return true;
+			}
+			return false;
+		}
+
+		private Set<Object> sharedKeySet( Set<Object> keys ) {
+			Set<Object> sharedKeys = sharedKeySets.putIfAbsent( keys, keys );
+			return (sharedKeys != null) ? sharedKeys : keys;
+		}
+
+		/**
+		 * Re-sets already created lazy values (e.g. borders or icons) that use changed UI defaults,
+		 * so that they are created again on next access.
+		 * Keys of re-set lazy values are added to {@code changedKeys}.
+		 */
+		void resetAffectedLazyValues( Set<String> changedKeys ) {
+			Map<String, LazyValue> lazyValues = loadedProperties.lazyValues;
+
+			// lazy values may use other lazy values --> repeat until nothing changes
+			boolean changed;
+			do {
+				changed = false;
+				for( Map.Entry<String, Set<Object>> e : lazyValueKeys.entrySet() ) {
+					String key = e.getKey();
+					Set<Object> usedKeys = e.getValue();
+					if( usedKeys != KeyRecording.UNKNOWN_KEYS && Collections.disjoint( usedKeys, changedKeys ) )
+						continue;
+
+					// re-set lazy value (this also removes the recorded keys)
+					LazyValue lazyValue = lazyValues.get( key );
+					if( lazyValue == null ) {
+						lazyValueKeys.remove( key );
+						continue;
+					}
+
+					put( key, lazyValue );
+					changedKeys.add( key );
+					changed = true;
+				}
+			} while( changed );
+		}
+
+		/**
+		 * Updates the UI of the given component if its UI delegate uses changed UI defaults,
+		 * or if the used UI defaults are not known for the component.
+		 *
+		 * @return whether the UI was updated
+		 */
+		boolean updateUIIfNecessary( JComponent c, Set<String> changedKeys ) {
+			// parsed styles are cached, so recorded keys of styled components may be incomplete
+			if( c.getClientProperty( FlatClientProperties.STYLE ) == null &&
+				c.getClientProperty( FlatClientProperties.STYLE_CLASS ) == null )
+			{
+				Set<Object> keys = componentKeys.get( c );
+				if( keys != null && Collections.disjoint( keys, changedKeys ) )
+					return false;
+			}
+
+			KeyRecording recording = beginKeyRecording();
+			try {
+				c.updateUI();
+			} finally {
+				endKeyRecording( recording );
+			}
+			componentKeys.put( c, sharedKeySet( recording.keys ) );
+			return true;
+		}
+
+		//---- class RecordingLazyValue ---------------------------------------
+
+		/**
+		 * Records the keys used (directly or indirectly) when the lazy value is created.
+		 */
+		private class RecordingLazyValue
+			implements LazyValue
+		{
+			private final String key;
+			private final LazyValue lazyValue;
+
+			RecordingLazyValue( String key, LazyValue lazyValue ) {
+				this.key = key;
+				this.lazyValue = lazyValue;
+			}
+
+			@Override
+			public Object createValue( UIDefaults table ) {
+				// keys are recorded only after first incremental update
+				// and only on event dispatching thread
+				if( !recordKeys || !EventQueue.isDispatchThread() ) {
+					lazyValueKeys.put( key, KeyRecording.UNKNOWN_KEYS );
+					return lazyValue.createValue( table );
+				}
+
+				KeyRecording recording = beginKeyRecording();
+				try {
+					return lazyValue.createValue( table );
+				} finally {
+					endKeyRecording( recording );
+					lazyValueKeys.put( key, recording.keys );
+				}
+			}
+		}
+	}
+
+	//---- class KeyRecording -------------------------------------------------
+
+	/**
+	 * Keys used (directly or indirectly) while recording.
+	 */
+	private static class KeyRecording
+	{
+		/** used if keys are not known (e.g. if lazy value was created on another thread) */
+		static final Set<Object> UNKNOWN_KEYS = Collections.unmodifiableSet( new HashSet<>() );
+
+		final KeyRecording parent;
+		final Set<Object> keys = new HashSet<>();
+
+		KeyRecording( KeyRecording parent ) {
+			this.parent = parent;
+		}
 	}
 
 	//---- class ActiveFont ---------------------------------------------------
@@ -1809,6 +2474,19 @@ public abstract class FlatLaf
 		}
 	}
 
+	//---- class DisabledImage ------------------------------------------------
+
+	private static class DisabledImage
+	{
+		final ImageFilter filter;
+		final BufferedImage image;
+
+		DisabledImage( ImageFilter filter, BufferedImage image ) {
+			this.filter = filter;
+			this.image = image;
+		}
+	}
+
 	//---- interface DisabledIconProvider -------------------------------------
 
 	/**
@@ -0,0 +1,471 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf;
+
+import java.awt.Component;
+import java.awt.Container;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.swing.JMenu;
+import com.formdev.flatlaf.util.LoggingFacade;
+
+/**
+ * Timings and counts of loading and applying FlatLaf look and feels.
+ * E.g. to track the latency of switching themes.
+ * <p>
+ * Metrics are passed to registered {@link Listener}s.
+ * If Java Flight Recorder (JFR) is running (Java 11 or later),
+ * then metrics are also emitted as JFR events
+ * {@code com.formdev.flatlaf.DefaultsLoaded} and {@code com.formdev.flatlaf.UIUpdated}.
+ * <p>
+ * Metrics are only collected if at least one listener is registered or if JFR is running.
+ *
+ * @author Karl Tauber
+ * @since 3.7
+ */
+public class FlatLafMetrics
+{
+	private static final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+	private FlatLafMetrics() {
+	}
+
+	/**
+	 * Adds a listener that is notified about metrics.
+	 */
+	public static void addListener( Listener listener ) {
+		listeners.add( listener );
+	}
+
+	/**
+	 * Removes a listener.
+	 */
+	public static void removeListener( Listener listener ) {
+		listeners.remove( listener );
+	}
+
+	/**
+	 * Returns whether metrics should be collected.
+	 */
+	static boolean isEnabled() {
+		return !listeners.isEmpty() || FlightRecorderSupport.isRunning();
+	}
+
+	static void fireDefaultsLoaded( DefaultsLoaded metrics ) {
+		for( Listener l : listeners ) {
+			try {
+				l.defaultsLoaded( metrics );
+			} catch( RuntimeException ex ) {
+				LoggingFacade.INSTANCE.logSevere( "FlatLaf: Failed to notify metrics listener.", ex );
+			}
+		}
+
+		FlightRecorderSupport.commitDefaultsLoaded( metrics );
+	}
+
+	static void fireUIUpdated( Component[] windows, long time ) {
+		int componentCount = 0;
+		for( Component w : windows )
+			componentCount += countComponents( w );
+
+		UIUpdated metrics = new UIUpdated( windows.length, componentCount, time );
+		for( Listener l : listeners ) {
+			try {
+				l.uiUpdated( metrics );
+			} catch( RuntimeException ex ) {
+				LoggingFacade.INSTANCE.logSevere( "FlatLaf: Failed to notify metrics listener.", ex );
+			}
+		}
+
+		FlightRecorderSupport.commitUIUpdated( metrics );
+	}
+
+	/**
+	 * Counts components in same way as they are updated in
+	 * {@link javax.swing.SwingUtilities#updateComponentTreeUI(Component)}.
+	 */
+	private static int countComponents( Component c ) {
+		int count = 1;
+		Component[] children = null;
+		if( c instanceof JMenu )
+			children = ((JMenu)c).getMenuComponents();
+		else if( c instanceof Container )
+			children = ((Container)c).getComponents();
+		if( children != null ) {
+			for( Component child : children )
+				count += countComponents( child );
+		}
+		return count;
+	}
+
+	//---- interface Listener -------------------------------------------------
+
+	/**
+	 * Listener that is notified about metrics.
+	 * Methods are invoked on the thread that loaded the look and feel
+	 * or updated the UI (usually the AWT event dispatching thread).
+	 */
+	public interface Listener
+	{
+		/**
+		 * Invoked after UI defaults of a FlatLaf look and feel were loaded
+		 * (at end of {@link FlatLaf#getDefaults()}).
+		 */
+		default void defaultsLoaded( DefaultsLoaded metrics ) {}
+
+		/**
+		 * Invoked after the UI of all windows was updated
+		 * (at end of {@link FlatLaf#updateUI()} or after {@link FlatLaf#updateUIIncrementally()}
+		 * has updated all components).
+		 */
+		default void uiUpdated( UIUpdated metrics ) {}
+	}
+
+	//---- class DefaultsLoaded -----------------------------------------------
+
+	/**
+	 * Metrics of loading UI defaults. All times are in nanoseconds.
+	 */
+	public static final class DefaultsLoaded
+	{
+		private final String lafName;
+		private final String lafClassName;
+		private final long initializeTime;
+		private final long basicDefaultsTime;
+		private final long loadPropertiesTime;
+		private final long parseTime;
+		private final long addonsTime;
+		private final long totalTime;
+		private final int propertiesCount;
+		private final int defaultsCount;
+		private final int parseErrorCount;
+		private final long colorCount;
+		private final int distinctColorCount;
+
+		DefaultsLoaded( String lafName, String lafClassName, long initializeTime, long basicDefaultsTime,
+			long loadPropertiesTime, long parseTime, long addonsTime, long totalTime,
+			int propertiesCount, int defaultsCount, int parseErrorCount,
+			long colorCount, int distinctColorCount )
+		{
+			this.lafName = lafName;
+			this.lafClassName = lafClassName;
+			this.initializeTime = initializeTime;
+			this.basicDefaultsTime = basicDefaultsTime;
+			this.loadPropertiesTime = loadPropertiesTime;
+			this.parseTime = parseTime;
+			this.addonsTime = addonsTime;
+			this.totalTime = totalTime;
+			this.propertiesCount = propertiesCount;
+			this.defaultsCount = defaultsCount;
+			this.parseErrorCount = parseErrorCount;
+			this.colorCount = colorCount;
+			this.distinctColorCount = distinctColorCount;
+		}
+
+		/** Returns the name of the look and feel. */
+		public String getLafName() {
+			return lafName;
+		}
+
+		/** Returns the class name of the look and feel. */
+		public String getLafClassName() {
+			return lafClassName;
+		}
+
+		/**
+		 * Returns the time used in {@link FlatLaf#initialize()} (which is invoked
+		 * before loading UI defaults), or zero if not initialized.
+		 */
+		public long getInitializeTime() {
+			return initializeTime;
+		}
+
+		/** Returns the time used to initialize basic UI defaults (before loading properties files). */
+		public long getBasicDefaultsTime() {
+			return basicDefaultsTime;
+		}
+
+		/** Returns the time used to load properties files (including IntelliJ themes). */
+		public long getLoadPropertiesTime() {
+			return loadPropertiesTime;
+		}
+
+		/** Returns the time used to parse properties into UI defaults values. */
+		public long getParseTime() {
+			return parseTime;
+		}
+
+		/** Returns the time used in {@link FlatDefaultsAddon#afterDefaultsLoading}. */
+		public long getAddonsTime() {
+			return addonsTime;
+		}
+
+		/** Returns the total time used in {@link FlatLaf#getDefaults()}. */
+		public long getTotalTime() {
+			return totalTime;
+		}
+
+		/** Returns the number of loaded properties (including variables). */
+		public int getPropertiesCount() {
+			return propertiesCount;
+		}
+
+		/** Returns the number of UI defaults. */
+		public int getDefaultsCount() {
+			return defaultsCount;
+		}
+
+		/** Returns the number of properties that could not be parsed. */
+		public int getParseErrorCount() {
+			return parseErrorCount;
+		}
+
+		/** Returns the number of colors created while parsing properties (including duplicates). */
+		public long getColorCount() {
+			return colorCount;
+		}
+
+		/** Returns the number of distinct (shared) colors created while parsing properties. */
+		public int getDistinctColorCount() {
+			return distinctColorCount;
+		}
+
+		@Override
+		public String toString() {
+			return "DefaultsLoaded[" + lafName
+				+ ", initialize=" + ms( initializeTime )
+				+ ", basicDefaults=" + ms( basicDefaultsTime )
+				+ ", loadProperties=" + ms( loadPropertiesTime )
+				+ ", parse=" + ms( parseTime )
+				+ ", addons=" + ms( addonsTime )
+				+ ", total=" + ms( totalTime )
+				+ ", properties=" + propertiesCount
+				+ ", defaults=" + defaultsCount
+				+ ", parseErrors=" + parseErrorCount
+				+ ", colors=" + colorCount
+				+ ", distinctColors=" + distinctColorCount + "]";
+		}
+	}
+
+	//---- class UIUpdated ----------------------------------------------------
+
+	/**
+	 * Metrics of updating the UI of all windows.
+	 */
+	public static final class UIUpdated
+	{
+		private final int windowCount;
+		private final int componentCount;
+		private final long time;
+
+		UIUpdated( int windowCount, int componentCount, long time ) {
+			this.windowCount = windowCount;
+			this.componentCount = componentCount;
+			this.time = time;
+		}
+
+		/** Returns the number of updated windows. */
+		public int getWindowCount() {
+			return windowCount;
+		}
+
+		/** Returns the number of components in updated windows. */
+		public int getComponentCount() {
+			return componentCount;
+		}
+
+		/**
+		 * Returns the time (in nanoseconds) used to update the UI.
+		 * For incremental updates, this is the sum of the time used in all time slices.
+		 */
+		public long getTime() {
+			return time;
+		}
+
+		@Override
+		public String toString() {
+			return "UIUpdated[windows=" + windowCount
+				+ ", components=" + componentCount
+				+ ", time=" + ms( time ) + "]";
+		}
+	}
+
+	private static String ms( long nanos ) {
+		return String.format( "%.2fms", nanos / 1_000_000.0 );
+	}
+
+	//---- class FlightRecorderSupport ----------------------------------------
+
+	/**
+	 * Emits JFR events using reflection, which does not require Java 11 at compile time.
+	 * Events are defined with {@code jdk.jfr.EventFactory}.
+	 */
+	private static class FlightRecorderSupport
+	{
+		private static boolean initialized;
+		private static Method isInitializedMethod;
+		private static Method getFlightRecorderMethod;
+		private static Method getRecordingsMethod;
+		private static Method getStateMethod;
+		private static Method newEventMethod;
+		private static Method setMethod;
+		private static Method commitMethod;
+		private static Object defaultsLoadedFactory;
+		private static Object uiUpdatedFactory;
+
+		static synchronized boolean isRunning() {
+			if( !initialized ) {
+				initialized = true;
+				try {
+					Class<?> flightRecorderClass = Class.forName( "jdk.jfr.FlightRecorder" );
+					isInitializedMethod = flightRecorderClass.getMethod( "isInitialized" );
+					getFlightRecorderMethod = flightRecorderClass.getMethod( "getFlightRecorder" );
+					getRecordingsMethod = flightRecorderClass.getMethod( "getRecordings" );
+					getStateMethod = Class.forName( "jdk.jfr.Recording" ).getMethod( "getState" );
+				} catch( Exception ex ) {
+					// JFR not available
+					isInitializedMethod = null;
+				}
+			}
+
+			if( isInitializedMethod == null )
+				return false;
+
+			try {
+				// JFR stays initialized after all recordings have been stopped
+				// (do not invoke getFlightRecorder() if not initialized, because this would initialize JFR)
+				if( !(Boolean) isInitializedMethod.invoke( null ) )
+					return false;
+
+				// check whether there is a running recording
+				Object flightRecorder = getFlightRecorderMethod.invoke( null );
+				for( Object recording : (List<?>) getRecordingsMethod.invoke( flightRecorder ) ) {
+					if( "RUNNING".equals( String.valueOf( getStateMethod.invoke( recording ) ) ) )
+						return true;
+				}
+				return false;
+			} catch( Exception ex ) {
+				return false;
+			}
+		}
+
+		static synchronized void commitDefaultsLoaded( DefaultsLoaded m ) {
+			if( !isRunning() )
+				return;
+
+			try {
+				if( defaultsLoadedFactory == null ) {
+					defaultsLoadedFactory = createEventFactory( "com.formdev.flatlaf.DefaultsLoaded", "FlatLaf Defaults Loaded",
+						String.class, "lafName", "Look and Feel", false,
+						String.class, "lafClassName", "Look and Feel Class", false,
+						long.class, "initializeTime", "Initialize Time", true,
+						long.class, "basicDefaultsTime", "Basic Defaults Time", true,
+						long.class, "loadPropertiesTime", "Load Properties Time", true,
+						long.class, "parseTime", "Parse Time", true,
+						long.class, "addonsTime", "Addons Time", true,
+						long.class, "totalTime", "Total Time", true,
+						int.class, "propertiesCount", "Properties", false,
+						int.class, "defaultsCount", "UI Defaults", false,
+						int.class, "parseErrorCount", "Parse Errors", false,
+						long.class, "colorCount", "Colors", false,
+						int.class, "distinctColorCount", "Distinct Colors", false );
+				}
+
+				commit( defaultsLoadedFactory, m.lafName, m.lafClassName,
+					m.initializeTime, m.basicDefaultsTime, m.loadPropertiesTime, m.parseTime, m.addonsTime, m.totalTime,
+					m.propertiesCount, m.defaultsCount, m.parseErrorCount,
+					m.colorCount, m.distinctColorCount );
+			} catch( Exception ex ) {
+				LoggingFacade.INSTANCE.logConfig( "FlatLaf: Failed to emit JFR event.", ex );
+			}
+		}
+
+		static synchronized void commitUIUpdated( UIUpdated m ) {
+			if( !isRunning() )
+				return;
+
+			try {
+				if( uiUpdatedFactory == null ) {
+					uiUpdatedFactory = createEventFactory( "com.formdev.flatlaf.UIUpdated", "FlatLaf UI Updated",
+						int.class, "windowCount", "Windows", false,
+						int.class, "componentCount", "Components", false,
+						long.class, "time", "Time", true );
+				}
+
+				commit( uiUpdatedFactory, m.windowCount, m.componentCount, m.time );
+			} catch( Exception ex ) {
+				LoggingFacade.INSTANCE.logConfig( "FlatLaf: Failed to emit JFR event.", ex );
+			}
+		}
+
+		/**
+		 * @param fields type, name, label and whether it is a timespan (in nanoseconds) for each field
+		 */
+		private static Object createEventFactory( String name, String label, Object... fields )
+			throws Exception
+		{
+			Class<?> annotationElementClass = Class.forName( "jdk.jfr.AnnotationElement" );
+			Constructor<?> annotationElementConstructor = annotationElementClass.getConstructor( Class.class, Object.class );
+			Constructor<?> valueDescriptorConstructor = Class.forName( "jdk.jfr.ValueDescriptor" )
+				.getConstructor( Class.class, String.class, List.class );
+			Class<?> nameClass = Class.forName( "jdk.jfr.Name" );
+			Class<?> labelClass = Class.forName( "jdk.jfr.Label" );
+			Class<?> categoryClass = Class.forName( "jdk.jfr.Category" );
+			Class<?> timespanClass = Class.forName( "jdk.jfr.Timespan" );
+
+			List<Object> eventAnnotations = Arrays.asList(
+				annotationElementConstructor.newInstance( nameClass, name ),
+				annotationElementConstructor.newInstance( labelClass, label ),
+				annotationElementConstructor.newInstance( categoryClass, new String[] { "FlatLaf" } ) );
+
+			List<Object> valueDescriptors = new ArrayList<>();
+			for( int i = 0; i < fields.length; i += 4 ) {
+				List<Object> fieldAnnotations = new ArrayList<>();
+				fieldAnnotations.add( annotationElementConstructor.newInstance( labelClass, fields[i + 2] ) );
+				if( (Boolean) fields[i + 3] )
+					fieldAnnotations.add( annotationElementConstructor.newInstance( timespanClass, "NANOSECONDS" ) );
+				valueDescriptors.add( valueDescriptorConstructor.newInstance( fields[i], fields[i + 1], fieldAnnotations ) );
+			}
+
+			Class<?> eventFactoryClass = Class.forName( "jdk.jfr.EventFactory" );
+			Object factory = eventFactoryClass.getMethod( "create", List.class, List.class )
+				.invoke( null, eventAnnotations, Collections.unmodifiableList( valueDescriptors ) );
+
+			if( newEventMethod == null ) {
+				Class<?> eventClass = Class.forName( "jdk.jfr.Event" );
+				newEventMethod = eventFactoryClass.getMethod( "newEvent" );
+				setMethod = eventClass.getMethod( "set", int.class, Object.class );
+				commitMethod = eventClass.getMethod( "commit" );
+			}
+			return factory;
+		}
+
+		private static void commit( Object factory, Object... values )
+			throws Exception
+		{
+			Object event = newEventMethod.invoke( factory );
+			for( int i = 0; i < values.length; i++ )
+				setMethod.invoke( event, i, values[i] );
+			commitMethod.invoke( event );
+		}
+	}
+}
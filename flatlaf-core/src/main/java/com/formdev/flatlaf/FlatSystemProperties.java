@@ -226,6 +226,43 @@ public interface FlatSystemProperties
 	 */
 	String USE_SUB_MENU_SAFE_TRIANGLE = "flatlaf.useSubMenuSafeTriangle";
 
+	/**
+	 * Specifies a directory where FlatLaf stores snapshots of parsed UI defaults.
+	 * The path can be absolute or relative to current application working directory.
+	 * <p>
+	 * If set, FlatLaf writes a compact binary snapshot of parsed UI defaults values
+	 * (per look and feel and set of addons) to this directory when the look and feel
+	 * is set up the first time. On subsequent starts, parsed values are loaded from
+	 * the snapshot, which avoids parsing of color functions and other values.
+	 * The snapshot is automatically replaced if the properties change
+	 * (e.g. other FlatLaf version, custom defaults sources or extra defaults).
+	 * <p>
+	 * Snapshots are not used if a system color getter is set
+	 * (see {@link FlatLaf#setSystemColorGetter(java.util.function.Function)}).
+	 * <p>
+	 * <strong>Allowed Values</strong> a directory path<br>
+	 * <strong>Default</strong> none (snapshots disabled)
+	 *
+	 * @since 3.7
+	 */
+	String UI_DEFAULTS_SNAPSHOT_DIR = "flatlaf.uiDefaultsSnapshotDir";
+
+	/**
+	 * Specifies whether FlatLaf properties files are loaded concurrently and
+	 * UI defaults values are parsed concurrently (using the common fork-join pool).
+	 * This may reduce the time needed to set up the look and feel on multi-core machines.
+	 * <p>
+	 * Note that if enabled, a system color getter
+	 * (see {@link FlatLaf#setSystemColorGetter(java.util.function.Function)})
+	 * may be invoked from other threads.
+	 * <p>
+	 * <strong>Allowed Values</strong> {@code false} and {@code true}<br>
+	 * <strong>Default</strong> {@code false}
+	 *
+	 * @since 3.7
+	 */
+	String PARALLEL_DEFAULTS_LOADING = "flatlaf.parallelDefaultsLoading";
+
 	/**
 	 * Checks whether a system property is set and returns {@code true} if its value
 	 * is {@code "true"} (case-insensitive), otherwise it returns {@code false}.
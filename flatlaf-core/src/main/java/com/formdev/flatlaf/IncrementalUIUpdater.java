@@ -0,0 +1,263 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf;
+
+import java.awt.AWTEvent;
+import java.awt.Component;
+import java.awt.Container;
+import java.awt.EventQueue;
+import java.awt.Rectangle;
+import java.awt.Toolkit;
+import java.awt.Window;
+import java.awt.event.AWTEventListener;
+import java.awt.event.HierarchyEvent;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import javax.swing.JComponent;
+import javax.swing.JMenu;
+import javax.swing.JPopupMenu;
+import javax.swing.SwingUtilities;
+
+/**
+ * Updates the UI of component trees in small time slices,
+ * spread over multiple events on the event dispatching thread.
+ * <p>
+ * Components are updated in the same way as in
+ * {@link SwingUtilities#updateComponentTreeUI(Component)},
+ * but in following order:
+ * <ol>
+ *   <li>showing components that are within the visible rectangle of their parents
+ *       (e.g. not scrolled out of view in a viewport)
+ *   <li>showing components that are outside of the visible rectangle of their parents
+ *   <li>hidden components (e.g. non-selected tabs, cards, popup menus or hidden windows);
+ *       a hidden component is updated immediately when it becomes showing
+ * </ol>
+ * A component is always updated before its children.
+ *
+ * @author Karl Tauber
+ */
+final class IncrementalUIUpdater
+	implements Runnable, AWTEventListener
+{
+	/** Maximum time (in nanoseconds) used for updating components within one event. */
+	private static final long TIME_SLICE = 10_000_000;
+
+	private static IncrementalUIUpdater current;
+
+	private final Component[] roots;
+	private final Runnable finished;
+
+	// components that are not yet updated, but their parents are
+	private final ArrayDeque<Component> visible = new ArrayDeque<>();
+	private final ArrayDeque<Component> offscreen = new ArrayDeque<>();
+	private final LinkedHashSet<Component> hidden = new LinkedHashSet<>();
+
+	private List<Runnable> visibleUpdatedRunnables = new ArrayList<>();
+	private boolean cancelled;
+	private boolean updating;
+	private long time;
+
+	IncrementalUIUpdater( Component[] roots, Runnable finished ) {
+		this.roots = roots;
+		this.finished = finished;
+	}
+
+	/**
+	 * Starts updating the given roots (usually all windows) in a later event and
+	 * cancels a running update.
+	 * Must be invoked on the event dispatching thread.
+	 */
+	static void start( Component[] roots, Runnable finished ) {
+		cancel();
+
+		IncrementalUIUpdater updater = new IncrementalUIUpdater( roots, finished );
+		for( Component root : roots ) {
+			if( root.isShowing() )
+				updater.visible.add( root );
+			else
+				updater.hidden.add( root );
+		}
+
+		current = updater;
+		Toolkit.getDefaultToolkit().addAWTEventListener( updater, AWTEvent.HIERARCHY_EVENT_MASK );
+		EventQueue.invokeLater( updater );
+	}
+
+	/**
+	 * Cancels a running update (if any).
+	 */
+	static void cancel() {
+		if( current != null )
+			current.finish( false );
+	}
+
+	/**
+	 * Runs the given runnable after all visible components have been updated.
+	 * Runs it immediately if no update is running.
+	 */
+	static void invokeWhenVisibleUpdated( Runnable runnable ) {
+		if( current != null && current.visibleUpdatedRunnables != null )
+			current.visibleUpdatedRunnables.add( runnable );
+		else
+			runnable.run();
+	}
+
+	/**
+	 * Updates components until the time slice is used up
+	 * and continues in a later event.
+	 */
+	@Override
+	public void run() {
+		if( cancelled )
+			return;
+
+		long startTime = System.nanoTime();
+		updating = true;
+		try {
+			for(;;) {
+				Component c;
+				boolean isVisible = false;
+				if( (c = visible.poll()) != null )
+					isVisible = true;
+				else {
+					if( visibleUpdatedRunnables != null )
+						visibleUpdated();
+
+					if( (c = offscreen.poll()) == null ) {
+						Iterator<Component> it = hidden.iterator();
+						if( !it.hasNext() )
+							break;
+
+						c = it.next();
+						it.remove();
+					}
+				}
+
+				update( c, isVisible );
+
+				if( System.nanoTime() - startTime >= TIME_SLICE ) {
+					time += System.nanoTime() - startTime;
+					EventQueue.invokeLater( this );
+					return;
+				}
+			}
+		} finally {
+			updating = false;
+		}
+
+		time += System.nanoTime() - startTime;
+		finish( true );
+	}
+
+	/**
+	 * Updates the UI of the given component and adds its children to the queues.
+	 */
+	private void update( Component c, boolean isVisible ) {
+		if( c instanceof JComponent ) {
+			JComponent jc = (JComponent) c;
+			jc.updateUI();
+
+			JPopupMenu popupMenu = jc.getComponentPopupMenu();
+			if( popupMenu != null )
+				hidden.add( popupMenu );
+		}
+
+		Component[] children = null;
+		if( c instanceof JMenu )
+			children = ((JMenu)c).getMenuComponents();
+		else if( c instanceof Container )
+			children = ((Container)c).getComponents();
+		if( children == null || children.length == 0 )
+			return;
+
+		Rectangle visibleRect = (isVisible && c instanceof JComponent)
+			? ((JComponent)c).getVisibleRect()
+			: null;
+		for( Component child : children ) {
+			if( !child.isShowing() )
+				hidden.add( child );
+			else if( isVisible && (visibleRect == null || visibleRect.intersects( child.getBounds() )) )
+				visible.add( child );
+			else
+				offscreen.add( child );
+		}
+	}
+
+	private void visibleUpdated() {
+		// layout updated components before notifying
+		for( Component root : roots ) {
+			if( root.isShowing() )
+				root.validate();
+		}
+
+		List<Runnable> runnables = visibleUpdatedRunnables;
+		visibleUpdatedRunnables = null;
+		for( Runnable runnable : runnables )
+			runnable.run();
+	}
+
+	private void finish( boolean completed ) {
+		cancelled = true;
+		if( current == this )
+			current = null;
+		Toolkit.getDefaultToolkit().removeAWTEventListener( this );
+
+		// run pending runnables also if cancelled because they (e.g. hiding snapshots)
+		// would otherwise never run
+		if( visibleUpdatedRunnables != null ) {
+			List<Runnable> runnables = visibleUpdatedRunnables;
+			visibleUpdatedRunnables = null;
+			for( Runnable runnable : runnables )
+				runnable.run();
+		}
+
+		if( !completed )
+			return;
+
+		if( FlatLafMetrics.isEnabled() )
+			FlatLafMetrics.fireUIUpdated( roots, time );
+		if( finished != null )
+			finished.run();
+	}
+
+	/**
+	 * Updates hidden components immediately when they become showing.
+	 */
+	@Override
+	public void eventDispatched( AWTEvent e ) {
+		if( e.getID() != HierarchyEvent.HIERARCHY_CHANGED ||
+			(((HierarchyEvent)e).getChangeFlags() & HierarchyEvent.SHOWING_CHANGED) == 0 )
+			return;
+
+		Component c = ((HierarchyEvent)e).getComponent();
+		if( !c.isShowing() || !hidden.remove( c ) )
+			return;
+
+		if( updating ) {
+			// component became showing while updating its parent
+			visible.addFirst( c );
+			return;
+		}
+
+		long startTime = System.nanoTime();
+		SwingUtilities.updateComponentTreeUI( c );
+		time += System.nanoTime() - startTime;
+	}
+}
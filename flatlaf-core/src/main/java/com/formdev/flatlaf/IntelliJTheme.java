@@ -16,11 +16,17 @@
 
 package com.formdev.flatlaf;
 
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -32,6 +38,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import com.formdev.flatlaf.json.Json;
 import com.formdev.flatlaf.json.ParseException;
 import com.formdev.flatlaf.util.LoggingFacade;
@@ -54,13 +62,26 @@ import com.formdev.flatlaf.util.SystemInfo;
  */
 public class IntelliJTheme
 {
+	private static final int PRECOMPILED_MAGIC = ('F' << 24) | ('L' << 16) | ('I' << 8) | 'J';
+	private static final int PRECOMPILED_VERSION = 2;
+	private static long translationFingerprint;
+	private static final String ALL_OS = "*";
+
 	public final String name;
 	public final boolean dark;
 	public final String author;
 
 	private Map<String, String> jsonColors;
-	private Map<String, Object> jsonUI;
-	private Map<String, Object> jsonIcons;
+	private Map<String, String> jsonIconsColorPalette;
+
+	// flattened Json "ui" structure; contains keys and values alternating
+	// (value is null if it is OS specific and stored in jsonUIOSValues)
+	private ArrayList<String> jsonUI;
+	private Map<String, Map<String, String>> jsonUIOSValues;
+
+	// Json structure translated to UI properties
+	private Translation translation;
+	private Map<String, Translation> precompiledTranslations;
 
 	private Map<String, String> namedColors = Collections.emptyMap();
 
@@ -116,28 +137,267 @@ public class IntelliJTheme
 	 * The input stream is automatically closed.
 	 * Using a buffered input stream is not necessary.
 	 */
-	@SuppressWarnings( "unchecked" )
 	public IntelliJTheme( InputStream in )
 		throws IOException
 	{
-		Map<String, Object> json;
+		// parse Json without building intermediate maps;
+		// only the needed values are stored (flattened)
+		String[] topLevel = new String[3];
 	    try( Reader reader = new InputStreamReader( in, StandardCharsets.UTF_8 ) ) {
-	    		json = (Map<String, Object>) Json.parse( reader );
+	    		Json.parseFlat( reader, (key, depth, value) -> {
+	    			if( depth == 1 ) {
+	    				switch( key ) {
+	    					case "name":	topLevel[0] = value; break;
+	    					case "dark":	topLevel[1] = value; break;
+	    					case "author":	topLevel[2] = value; break;
+	    				}
+	    			} else if( key.startsWith( "ui." ) )
+	    				loadUI( key.substring( 3 ), value );
+	    			else if( depth == 2 && key.startsWith( "colors." ) ) {
+	    				if( jsonColors == null )
+	    					jsonColors = new LinkedHashMap<>();
+	    				jsonColors.put( key.substring( 7 ), value );
+	    			} else if( depth == 3 && key.startsWith( "icons.ColorPalette." ) ) {
+	    				if( jsonIconsColorPalette == null )
+	    					jsonIconsColorPalette = new LinkedHashMap<>();
+	    				jsonIconsColorPalette.put( key.substring( 19 ), value );
+	    			}
+	    		} );
 		} catch( ParseException ex ) {
 			throw new IOException( ex.getMessage(), ex );
 		}
 
-	    name = (String) json.get( "name" );
-	    dark = Boolean.parseBoolean( (String) json.get( "dark" ) );
-	    author = (String) json.get( "author" );
+	    name = topLevel[0];
+	    dark = Boolean.parseBoolean( topLevel[1] );
+	    author = topLevel[2];
 
-	    jsonColors = (Map<String, String>) json.get( "colors" );
-	    jsonUI = (Map<String, Object>) json.get( "ui" );
-	    jsonIcons = (Map<String, Object>) json.get( "icons" );
+	    if( jsonUI != null )
+	    	jsonUI.trimToSize();
 	}
 
-	private void applyProperties( Properties properties ) {
+	private IntelliJTheme( String name, boolean dark, String author ) {
+		this.name = name;
+		this.dark = dark;
+		this.author = author;
+	}
+
+	/**
+	 * Loads a precompiled IntelliJ theme from the given input stream,
+	 * which was created with {@link #writePrecompiled(OutputStream)}.
+	 * <p>
+	 * A precompiled theme contains the Json structure already translated
+	 * to UI properties, which makes loading it much faster.
+	 * <p>
+	 * The precompiled theme contains a fingerprint of the FlatLaf version and the
+	 * translation rules used to create it. If they differ from the current ones
+	 * (e.g. if the theme was precompiled with another FlatLaf version),
+	 * {@code null} is returned and the {@code .theme.json} file should be loaded instead.
+	 * <p>
+	 * The input stream is automatically closed.
+	 * Using a buffered input stream is not necessary.
+	 *
+	 * @return the theme; or {@code null} if the precompiled theme is outdated
+	 * @since 3.7
+	 */
+	public static IntelliJTheme loadPrecompiled( InputStream in )
+		throws IOException
+	{
+		try( DataInputStream din = new DataInputStream( new BufferedInputStream( in ) ) ) {
+			if( din.readInt() != PRECOMPILED_MAGIC )
+				throw new IOException( "unsupported precompiled theme format" );
+			if( din.readInt() != PRECOMPILED_VERSION || din.readLong() != getTranslationFingerprint() )
+				return null;
+
+			IntelliJTheme theme = new IntelliJTheme( readString( din ), din.readBoolean(), readString( din ) );
+
+			int count = din.readByte();
+			theme.precompiledTranslations = new HashMap<>( count * 2 );
+			for( int i = 0; i < count; i++ ) {
+				String osKey = din.readUTF();
+				Translation translation = new Translation();
+				readProps( din, translation.uiProps );
+				readProps( din, translation.iconsColorPaletteProps );
+				readProps( din, translation.checkBoxProps );
+				theme.precompiledTranslations.put( osKey, translation );
+			}
+			return theme;
+		}
+	}
+
+	/**
+	 * Translates the Json structure of this theme to UI properties and writes them
+	 * to the given output stream. Use {@link #loadPrecompiled(InputStream)} to load it.
+	 * <p>
+	 * This is intended to be used at build time.
+	 * The output stream is not closed.
+	 *
+	 * @since 3.7
+	 */
+	public void writePrecompiled( OutputStream out )
+		throws IOException
+	{
+		if( translation != null || precompiledTranslations != null )
+			throw new IllegalStateException( "theme already translated" );
+
+		// translate for each OS only if theme contains OS specific values
+		Map<String, Translation> translations = new LinkedHashMap<>();
+		if( jsonUI != null ) {
+			if( jsonUIOSValues != null ) {
+				for( String osKey : new String[] { "os.windows", "os.mac", "os.linux", null } )
+					translations.put( String.valueOf( osKey ), translate( osKey ) );
+			} else
+				translations.put( ALL_OS, translate( null ) );
+		}
+
+		DataOutputStream dout = new DataOutputStream( out );
+		dout.writeInt( PRECOMPILED_MAGIC );
+		dout.writeInt( PRECOMPILED_VERSION );
+		dout.writeLong( getTranslationFingerprint() );
+		writeString( dout, name );
+		dout.writeBoolean( dark );
+		writeString( dout, author );
+
+		dout.writeByte( translations.size() );
+		for( Map.Entry<String, Translation> e : translations.entrySet() ) {
+			Translation translation = e.getValue();
+			dout.writeUTF( e.getKey() );
+			writeProps( dout, translation.uiProps );
+			writeProps( dout, translation.iconsColorPaletteProps );
+			writeProps( dout, translation.checkBoxProps );
+		}
+		dout.flush();
+	}
+
+	/**
+	 * Returns a fingerprint of the FlatLaf version and the tables used to translate
+	 * the Json structure to UI properties. Translation code changes (e.g. value fixes)
+	 * are covered by the FlatLaf version.
+	 */
+	private static synchronized long getTranslationFingerprint() {
+		if( translationFingerprint != 0 )
+			return translationFingerprint;
+
+		MessageDigest md;
+		try {
+			md = MessageDigest.getInstance( "SHA-1" );
+		} catch( NoSuchAlgorithmException ex ) {
+			throw new IllegalStateException( ex );
+		}
+		updateFingerprint( md, String.valueOf( PRECOMPILED_VERSION ) );
+		updateFingerprint( md, FlatLaf.getBuildVersion() );
+		updateFingerprint( md, new TreeSet<>( uiKeyExcludes ) );
+		updateFingerprint( md, new TreeSet<>( uiKeyDoNotOverride ) );
+		updateFingerprint( md, new TreeMap<>( uiKeyMapping ) );
+		updateFingerprint( md, uiKeyCopying ); // order is relevant
+		updateFingerprint( md, new TreeMap<>( uiKeyInverseMapping ) );
+		updateFingerprint( md, new TreeMap<>( checkboxKeyMapping ) );
+		updateFingerprint( md, new TreeMap<>( checkboxDuplicateColors ) );
+
+		byte[] digest = md.digest();
+		long fingerprint = 0;
+		for( int i = 0; i < 8; i++ )
+			fingerprint = (fingerprint << 8) | (digest[i] & 0xff);
+		translationFingerprint = (fingerprint != 0) ? fingerprint : 1;
+		return translationFingerprint;
+	}
+
+	private static void updateFingerprint( MessageDigest md, Set<String> set ) {
+		updateFingerprint( md, String.valueOf( set.size() ) );
+		for( String s : set )
+			updateFingerprint( md, s );
+	}
+
+	private static void updateFingerprint( MessageDigest md, Map<String, String> map ) {
+		updateFingerprint( md, String.valueOf( map.size() ) );
+		for( Map.Entry<String, String> e : map.entrySet() ) {
+			updateFingerprint( md, e.getKey() );
+			updateFingerprint( md, e.getValue() );
+		}
+	}
+
+	private static void updateFingerprint( MessageDigest md, String s ) {
+		md.update( s.getBytes( StandardCharsets.UTF_8 ) );
+		md.update( (byte) 0 );
+	}
+
+	private static String readString( DataInputStream in ) throws IOException {
+		return in.readBoolean() ? in.readUTF() : null;
+	}
+
+	private static void writeString( DataOutputStream out, String s ) throws IOException {
+		out.writeBoolean( s != null );
+		if( s != null )
+			out.writeUTF( s );
+	}
+
+	private static void readProps( DataInputStream in, ArrayList<String> props ) throws IOException {
+		int count = in.readInt();
+		props.ensureCapacity( count * 2 );
+		String prevKey = "";
+		for( int i = 0; i < count; i++ ) {
+			int commonLength = in.readUnsignedByte();
+			String key = prevKey.substring( 0, commonLength ).concat( in.readUTF() );
+			props.add( key );
+			props.add( readString( in ) );
+			prevKey = key;
+		}
+	}
+
+	private static void writeProps( DataOutputStream out, ArrayList<String> props ) throws IOException {
+		out.writeInt( props.size() / 2 );
+		String prevKey = "";
+		for( int i = 0; i < props.size(); i += 2 ) {
+			// write only the part of the key that differs from previous key
+			// (consecutive keys often have same prefix; e.g. "Button.")
+			String key = props.get( i );
+			int commonLength = 0;
+			int maxLength = Math.min( Math.min( prevKey.length(), key.length() ), 255 );
+			while( commonLength < maxLength && prevKey.charAt( commonLength ) == key.charAt( commonLength ) )
+				commonLength++;
+
+			out.writeByte( commonLength );
+			out.writeUTF( key.substring( commonLength ) );
+			writeString( out, props.get( i + 1 ) );
+			prevKey = key;
+		}
+	}
+
+	/**
+	 * Stores a flattened value of Json node "ui".
+	 * OS specific values (e.g. key "Component.arc.os.mac") are stored separately
+	 * and resolved when translating.
+	 */
+	private void loadUI( String key, String value ) {
 		if( jsonUI == null )
+			jsonUI = new ArrayList<>( 512 );
+
+		int osIndex = key.lastIndexOf( ".os." );
+		String os = (osIndex > 0) ? key.substring( osIndex + 1 ) : null;
+		if( os != null && (os.equals( "os.default" ) || os.equals( "os.windows" ) || os.equals( "os.mac" ) || os.equals( "os.linux" )) ) {
+			String baseKey = key.substring( 0, osIndex );
+			if( jsonUIOSValues == null )
+				jsonUIOSValues = new HashMap<>();
+
+			// add placeholder (at position of first OS specific value)
+			Map<String, String> osValues = jsonUIOSValues.get( baseKey );
+			if( osValues == null ) {
+				osValues = new HashMap<>();
+				jsonUIOSValues.put( baseKey, osValues );
+				jsonUI.add( baseKey );
+				jsonUI.add( null );
+			}
+
+			osValues.put( os, value );
+			return;
+		}
+
+		jsonUI.add( key );
+		jsonUI.add( value );
+	}
+
+	private void applyProperties( Properties properties ) {
+		Translation translation = getTranslation();
+		if( translation == null )
 			return;
 
 		put( properties, "Component.isIntelliJTheme", "true" );
@@ -149,12 +409,17 @@ public class IntelliJTheme
 		Map<String, String> themeSpecificProps = removeThemeSpecificProps( properties );
 		Set<String> jsonUIKeys = new HashSet<>();
 
-		// Json node "colors"
-		loadNamedColors( properties, jsonUIKeys );
+		// Json nodes "colors" and "ui"
+		ArrayList<String> uiProps = translation.uiProps;
+		for( int i = 0; i < uiProps.size(); i += 2 ) {
+			String key = uiProps.get( i );
+			String value = uiProps.get( i + 1 );
+			jsonUIKeys.add( key );
 
-		// convert Json "ui" structure to UI properties
-		for( Map.Entry<String, Object> e : jsonUI.entrySet() )
-			apply( e.getKey(), e.getValue(), properties, jsonUIKeys );
+			// value is null if key is specified in Json, but value is invalid
+			if( value != null && !applyWildcard( properties, key, value ) )
+				put( properties, key, value );
+		}
 
 		// set FlatLaf variables
 		copyIfSetInJson( properties, jsonUIKeys, "@background", "Panel.background", "*.background" );
@@ -171,10 +436,12 @@ public class IntelliJTheme
 		copyIfSetInJson( properties, jsonUIKeys, "@selectionInactiveForeground", "*.selectionInactiveForeground" );
 
 		// Json node "icons/ColorPalette"
-		applyIconsColorPalette( properties );
+		putAll( properties, translation.iconsColorPaletteProps );
 
 		// apply "CheckBox.icon." colors
-		applyCheckBoxColors( properties );
+		putAll( properties, translation.checkBoxProps );
+		if( !translation.checkBoxProps.isEmpty() )
+			updateCheckBoxColors( properties );
 
 		// copy values
 		for( Map.Entry<String, String> e : uiKeyCopying.entrySet() ) {
@@ -276,11 +543,69 @@ public class IntelliJTheme
 
 			put( properties, key, value );
 		}
+	}
+
+	private Translation getTranslation() {
+		if( translation == null ) {
+			String osKey = SystemInfo.isWindows ? "os.windows"
+				: SystemInfo.isMacOS ? "os.mac"
+				: SystemInfo.isLinux ? "os.linux" : null;
+
+			if( precompiledTranslations != null ) {
+				translation = precompiledTranslations.get( String.valueOf( osKey ) );
+				if( translation == null )
+					translation = precompiledTranslations.get( ALL_OS );
+			} else {
+				translation = translate( osKey );
+
+				// let Java release memory
+				jsonColors = null;
+				jsonUI = null;
+				jsonUIOSValues = null;
+				jsonIconsColorPalette = null;
+				namedColors = Collections.emptyMap();
+			}
+		}
+		return translation;
+	}
+
+	/**
+	 * Translates the Json structure to UI properties for the given OS.
+	 * The result does not depend on other properties and therefore can be precompiled.
+	 */
+	private Translation translate( String osKey ) {
+		if( jsonUI == null )
+			return null;
+
+		Translation translation = new Translation();
+		Set<String> jsonUIKeys = new HashSet<>();
+
+		// Json node "colors"
+		loadNamedColors( translation.uiProps, jsonUIKeys );
+
+		// convert Json "ui" structure to UI properties
+		for( int i = 0; i < jsonUI.size(); i += 2 ) {
+			String key = jsonUI.get( i );
+			String value = jsonUI.get( i + 1 );
+			if( value == null ) {
+				// OS specific value (value for current OS has precedence over default value)
+				Map<String, String> osValues = jsonUIOSValues.get( key );
+				value = (osKey != null) ? osValues.get( osKey ) : null;
+				if( value == null && (value = osValues.get( "os.default" )) == null )
+					continue;
+			}
+
+			apply( key, value, translation.uiProps, jsonUIKeys );
+		}
+
+		// Json node "icons/ColorPalette"
+		applyIconsColorPalette( translation.iconsColorPaletteProps );
 
-		// let Java release memory
-		jsonColors = null;
-		jsonUI = null;
-		jsonIcons = null;
+		// "CheckBox.icon." colors
+		applyCheckBoxColors( translation.checkBoxProps );
+
+		translation.trimToSize();
+		return translation;
 	}
 
 	private String get( Properties properties, Map<String, String> themeSpecificProps, String key ) {
@@ -299,6 +624,16 @@ public class IntelliJTheme
 			put( properties, key, value );
 	}
 
+	private void putAll( Properties properties, ArrayList<String> props ) {
+		for( int i = 0; i < props.size(); i += 2 )
+			put( properties, props.get( i ), props.get( i + 1 ) );
+	}
+
+	private static void put( ArrayList<String> props, String key, String value ) {
+		props.add( key );
+		props.add( value );
+	}
+
 	private void copyIfSetInJson( Properties properties, Set<String> jsonUIKeys, String destKey, String... srcKeys ) {
 		for( String srcKey : srcKeys ) {
 			if( jsonUIKeys.contains( srcKey ) ) {
@@ -360,7 +695,7 @@ public class IntelliJTheme
 	/**
 	 * http://www.jetbrains.org/intellij/sdk/docs/reference_guide/ui_themes/themes_customize.html#defining-named-colors
 	 */
-	private void loadNamedColors( Properties properties, Set<String> jsonUIKeys ) {
+	private void loadNamedColors( ArrayList<String> props, Set<String> jsonUIKeys ) {
 		if( jsonColors == null )
 			return;
 
@@ -373,7 +708,7 @@ public class IntelliJTheme
 				namedColors.put( key, value );
 
 				String uiKey = "ColorPalette." + key;
-				put( properties, uiKey, value );
+				put( props, uiKey, value );
 
 				// this is only necessary for copyIfSetInJson() (used for accent color)
 				jsonUIKeys.add( uiKey );
@@ -384,86 +719,66 @@ public class IntelliJTheme
 	/**
 	 * http://www.jetbrains.org/intellij/sdk/docs/reference_guide/ui_themes/themes_customize.html#custom-ui-control-colors
 	 */
-	@SuppressWarnings( "unchecked" )
-	private void apply( String key, Object value, Properties properties, Set<String> jsonUIKeys ) {
-		if( value instanceof Map ) {
-			Map<String, Object> map = (Map<String, Object>)value;
-			if( map.containsKey( "os.default" ) || map.containsKey( "os.windows" ) || map.containsKey( "os.mac" ) || map.containsKey( "os.linux" ) ) {
-				String osKey = SystemInfo.isWindows ? "os.windows"
-					: SystemInfo.isMacOS ? "os.mac"
-					: SystemInfo.isLinux ? "os.linux" : null;
-				if( osKey != null && map.containsKey( osKey ) )
-					apply( key, map.get( osKey ), properties, jsonUIKeys );
-				else if( map.containsKey( "os.default" ) )
-					apply( key, map.get( "os.default" ), properties, jsonUIKeys );
-			} else {
-				for( Map.Entry<String, Object> e : map.entrySet() )
-					apply( key + '.' + e.getKey(), e.getValue(), properties, jsonUIKeys );
-			}
-		} else {
-			if( "".equals( value ) )
-				return; // ignore empty value
-
-			// ignore some properties that affect sizes
-			if( key.endsWith( ".border" ) ||
-				key.endsWith( ".rowHeight" ) ||
-				key.equals( "ComboBox.padding" ) ||
-				key.equals( "Spinner.padding" ) ||
-				key.equals( "Tree.leftChildIndent" ) ||
-				key.equals( "Tree.rightChildIndent" ) )
-			  return; // ignore
-
-			// map keys
-			key = uiKeyMapping.getOrDefault( key, key );
-			if( key.isEmpty() )
-				return; // ignore key
-
-			// exclude properties
-			int dot = key.indexOf( '.' );
-			if( dot > 0 && uiKeyExcludes.contains( key.substring( 0, dot + 1 ) ) )
-				return;
-
-			if( uiKeyDoNotOverride.contains( key ) && jsonUIKeys.contains( key ) )
-				return;
-
-			jsonUIKeys.add( key );
-
-			String valueStr = value.toString();
+	private void apply( String key, String valueStr, ArrayList<String> props, Set<String> jsonUIKeys ) {
+		if( valueStr.isEmpty() )
+			return; // ignore empty value
+
+		// ignore some properties that affect sizes
+		if( key.endsWith( ".border" ) ||
+			key.endsWith( ".rowHeight" ) ||
+			key.equals( "ComboBox.padding" ) ||
+			key.equals( "Spinner.padding" ) ||
+			key.equals( "Tree.leftChildIndent" ) ||
+			key.equals( "Tree.rightChildIndent" ) )
+		  return; // ignore
+
+		// map keys
+		key = uiKeyMapping.getOrDefault( key, key );
+		if( key.isEmpty() )
+			return; // ignore key
+
+		// exclude properties
+		int dot = key.indexOf( '.' );
+		if( dot > 0 && uiKeyExcludes.contains( key.substring( 0, dot + 1 ) ) )
+			return;
 
-			// map named colors
-			String uiValue = namedColors.get( valueStr );
+		if( uiKeyDoNotOverride.contains( key ) && jsonUIKeys.contains( key ) )
+			return;
 
-			// parse value
-			if( uiValue == null ) {
-				// fix errors (missing '#' for colors)
-				if( !valueStr.startsWith( "#" ) && (key.endsWith( "ground" ) || key.endsWith( "Color" )) )
-					valueStr = fixColorIfValid( "#" + valueStr, valueStr );
-				else if( valueStr.startsWith( "##" ) )
-					valueStr = fixColorIfValid( valueStr.substring( 1 ), valueStr );
-				else if( key.endsWith( ".border" ) || key.endsWith( "Border" ) ) {
-					List<String> parts = StringUtils.split( valueStr, ',' );
-					if( parts.size() == 5 && !parts.get( 4 ).startsWith( "#" ) ) {
-						parts.set( 4, "#" + parts.get( 4 ) );
-						valueStr = String.join( ",", parts );
-					}
-				}
+		jsonUIKeys.add( key );
 
-				// parse value
-				try {
-					UIDefaultsLoader.parseValue( key, valueStr, null );
-					uiValue = valueStr;
-				} catch( RuntimeException ex ) {
-					UIDefaultsLoader.logParseError( key, valueStr, ex, true );
-					return; // ignore invalid value
+		// map named colors
+		String uiValue = namedColors.get( valueStr );
+
+		// parse value
+		if( uiValue == null ) {
+			// fix errors (missing '#' for colors)
+			if( !valueStr.startsWith( "#" ) && (key.endsWith( "ground" ) || key.endsWith( "Color" )) )
+				valueStr = fixColorIfValid( "#" + valueStr, valueStr );
+			else if( valueStr.startsWith( "##" ) )
+				valueStr = fixColorIfValid( valueStr.substring( 1 ), valueStr );
+			else if( key.endsWith( ".border" ) || key.endsWith( "Border" ) ) {
+				List<String> parts = StringUtils.split( valueStr, ',' );
+				if( parts.size() == 5 && !parts.get( 4 ).startsWith( "#" ) ) {
+					parts.set( 4, "#" + parts.get( 4 ) );
+					valueStr = String.join( ",", parts );
 				}
 			}
 
-			// wildcards
-			if( applyWildcard( properties, key, uiValue ) )
-				return;
-
-			put( properties, key, uiValue );
+			// parse value
+			try {
+				UIDefaultsLoader.parseValue( key, valueStr, null );
+				uiValue = valueStr;
+			} catch( RuntimeException ex ) {
+				UIDefaultsLoader.logParseError( key, valueStr, ex, true );
+
+				// ignore invalid value, but remember that key is specified in Json
+				uiValue = null;
+			}
 		}
+
+		// Note: wildcards are applied later because they depend on other properties
+		put( props, key, uiValue );
 	}
 
 	private boolean applyWildcard( Properties properties, String key, String value ) {
@@ -519,28 +834,22 @@ public class IntelliJTheme
 		}
 	}
 
-	private void applyIconsColorPalette( Properties properties ) {
-		if( jsonIcons == null )
+	private void applyIconsColorPalette( ArrayList<String> props ) {
+		if( jsonIconsColorPalette == null )
 			return;
 
-		Object palette = jsonIcons.get( "ColorPalette" );
-		if( !(palette instanceof Map) )
-			return;
-
-		@SuppressWarnings( "unchecked" )
-		Map<String, Object> colorPalette = (Map<String, Object>) palette;
-		for( Map.Entry<String, Object> e : colorPalette.entrySet() ) {
+		for( Map.Entry<String, String> e : jsonIconsColorPalette.entrySet() ) {
 			String key = e.getKey();
-			Object value = e.getValue();
-			if( key.startsWith( "Checkbox." ) || key.startsWith( "#" ) || !(value instanceof String) )
+			String value = e.getValue();
+			if( key.startsWith( "Checkbox." ) || key.startsWith( "#" ) )
 				continue;
 
 			if( dark )
 				key = StringUtils.removeTrailing( key, ".Dark" );
 
-			String color = toColor( (String) value );
+			String color = toColor( value );
 			if( color != null )
-				put( properties, key, color );
+				put( props, key, color );
 		}
 	}
 
@@ -569,21 +878,14 @@ public class IntelliJTheme
 	 * these two components are specified in "icons > ColorPalette".
 	 * FlatLaf uses vector icons and expects colors for the two components in properties.
 	 */
-	private void applyCheckBoxColors( Properties properties ) {
-		if( jsonIcons == null )
+	private void applyCheckBoxColors( ArrayList<String> props ) {
+		if( jsonIconsColorPalette == null )
 			return;
 
-		Object palette = jsonIcons.get( "ColorPalette" );
-		if( !(palette instanceof Map) )
-			return;
-
-		boolean checkboxModified = false;
-		@SuppressWarnings( "unchecked" )
-		Map<String, Object> colorPalette = (Map<String, Object>) palette;
-		for( Map.Entry<String, Object> e : colorPalette.entrySet() ) {
+		for( Map.Entry<String, String> e : jsonIconsColorPalette.entrySet() ) {
 			String key = e.getKey();
-			Object value = e.getValue();
-			if( !key.startsWith( "Checkbox." ) || !(value instanceof String) )
+			String value = e.getValue();
+			if( !key.startsWith( "Checkbox." ) )
 				continue;
 
 			if( dark )
@@ -595,9 +897,9 @@ public class IntelliJTheme
 				if( !dark && newKey.startsWith( checkBoxIconPrefix ) )
 					newKey = "CheckBox.icon[filled].".concat( newKey.substring( checkBoxIconPrefix.length() ) );
 
-				String color = toColor( (String) value );
+				String color = toColor( value );
 				if( color != null ) {
-					put( properties, newKey, color );
+					put( props, newKey, color );
 
 					String key2 = checkboxDuplicateColors.get( key + ".Dark");
 					if( key2 != null ) {
@@ -618,41 +920,41 @@ public class IntelliJTheme
 
 						String newKey2 = checkboxKeyMapping.get( key2 );
 						if( newKey2 != null )
-							put( properties, newKey2, color );
+							put( props, newKey2, color );
 					}
 				}
-
-				checkboxModified = true;
 			}
 		}
+	}
 
-		// update hover, pressed and focused colors
-		if( checkboxModified ) {
-			// for non-filled checkbox/radiobutton used in dark themes
-			properties.remove( "CheckBox.icon.focusWidth" );
-			put( properties, "CheckBox.icon.hoverBorderColor", properties.get( "CheckBox.icon.focusedBorderColor" ) );
-
-			// for filled checkbox/radiobutton used in light themes
-			properties.remove( "CheckBox.icon[filled].focusWidth" );
-			put( properties, "CheckBox.icon[filled].hoverBorderColor", properties.get( "CheckBox.icon[filled].focusedBorderColor" ) );
-			put( properties, "CheckBox.icon[filled].focusedSelectedBackground", properties.get( "CheckBox.icon[filled].selectedBackground" ) );
-
-			if( dark ) {
-				// IDEA Darcula checkBoxFocused.svg, checkBoxSelectedFocused.svg,
-				// radioFocused.svg and radioSelectedFocused.svg
-				// use opacity=".65" for the border
-				// --> add alpha to focused border colors
-				String[] focusedBorderColorKeys = {
-					"CheckBox.icon.focusedBorderColor",
-					"CheckBox.icon.focusedSelectedBorderColor",
-					"CheckBox.icon[filled].focusedBorderColor",
-					"CheckBox.icon[filled].focusedSelectedBorderColor",
-				};
-				for( String key : focusedBorderColorKeys ) {
-					Object color = properties.get( key );
-					if( color != null )
-						put( properties, key, "fade(" + color + ", 65%)" );
-				}
+	/**
+	 * Updates hover, pressed and focused colors after "CheckBox.icon." colors were applied.
+	 */
+	private void updateCheckBoxColors( Properties properties ) {
+		// for non-filled checkbox/radiobutton used in dark themes
+		properties.remove( "CheckBox.icon.focusWidth" );
+		put( properties, "CheckBox.icon.hoverBorderColor", properties.get( "CheckBox.icon.focusedBorderColor" ) );
+
+		// for filled checkbox/radiobutton used in light themes
+		properties.remove( "CheckBox.icon[filled].focusWidth" );
+		put( properties, "CheckBox.icon[filled].hoverBorderColor", properties.get( "CheckBox.icon[filled].focusedBorderColor" ) );
+		put( properties, "CheckBox.icon[filled].focusedSelectedBackground", properties.get( "CheckBox.icon[filled].selectedBackground" ) );
+
+		if( dark ) {
+			// IDEA Darcula checkBoxFocused.svg, checkBoxSelectedFocused.svg,
+			// radioFocused.svg and radioSelectedFocused.svg
+			// use opacity=".65" for the border
+			// --> add alpha to focused border colors
+			String[] focusedBorderColorKeys = {
+				"CheckBox.icon.focusedBorderColor",
+				"CheckBox.icon.focusedSelectedBorderColor",
+				"CheckBox.icon[filled].focusedBorderColor",
+				"CheckBox.icon[filled].focusedSelectedBorderColor",
+			};
+			for( String key : focusedBorderColorKeys ) {
+				Object color = properties.get( key );
+				if( color != null )
+					put( properties, key, "fade(" + color + ", 65%)" );
 			}
 		}
 	}
@@ -804,6 +1106,28 @@ public class IntelliJTheme
 			checkboxDuplicateColors.put( e.getValue(), e.getKey() );
 	}
 
+	//---- class Translation --------------------------------------------------
+
+	/**
+	 * Json structure translated to UI properties.
+	 * Lists contain keys and values alternating.
+	 */
+	private static class Translation
+	{
+		// from Json nodes "colors" and "ui" (value is null if invalid)
+		final ArrayList<String> uiProps = new ArrayList<>();
+		// from Json node "icons/ColorPalette"
+		final ArrayList<String> iconsColorPaletteProps = new ArrayList<>();
+		// "CheckBox.icon." colors from Json node "icons/ColorPalette"
+		final ArrayList<String> checkBoxProps = new ArrayList<>();
+
+		void trimToSize() {
+			uiProps.trimToSize();
+			iconsColorPaletteProps.trimToSize();
+			checkBoxProps.trimToSize();
+		}
+	}
+
 	//---- class ThemeLaf -----------------------------------------------------
 
 	public static class ThemeLaf
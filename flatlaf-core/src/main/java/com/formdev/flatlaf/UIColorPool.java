@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf;
+
+import java.awt.Color;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.swing.plaf.ColorUIResource;
+
+/**
+ * A pool of shared (immutable) color UI resources.
+ * <p>
+ * Themes use many color keys (e.g. about 800 in IntelliJ themes), but only
+ * a few dozen distinct colors. Parsed UI defaults and style values use
+ * colors from this pool, which avoids that many equal color objects are kept in memory.
+ * <p>
+ * The pool is cleared when UI defaults are loaded (e.g. on look and feel switch)
+ * and its size is limited (styles may add colors between loads).
+ * <p>
+ * UI defaults that UI delegates compare by identity (e.g. to detect whether
+ * a color was set by the application or to toggle selection colors)
+ * get own instances (see {@link #unshare(String, Object)}).
+ *
+ * @author Karl Tauber
+ */
+class UIColorPool
+{
+	private static final int MAX_SIZE = 1000;
+
+	/** Suffixes of keys of colors that UI delegates compare by identity. */
+	private static final String[] IDENTITY_CHECKED_KEY_SUFFIXES = {
+		".background",
+		".disabledBackground",
+		".inactiveBackground",
+		".selectionBackground",
+		".selectionForeground",
+		".selectionInactiveBackground",
+		".selectionInactiveForeground",
+		".gridColor",
+	};
+
+	private static final Map<Integer, ColorUIResource> pool = new ConcurrentHashMap<>();
+	private static final AtomicLong requestedCount = new AtomicLong();
+
+	/**
+	 * Returns a shared color UI resource for the given ARGB value
+	 * (alpha component in bits 24-31).
+	 */
+	static ColorUIResource get( int argb ) {
+		requestedCount.incrementAndGet();
+
+		ColorUIResource color = pool.get( argb );
+		if( color != null )
+			return color;
+
+		ColorUIResource newColor = ((argb & 0xff000000) == 0xff000000)
+			? new ColorUIResource( argb )
+			: new ColorUIResource( new Color( argb, true ) );
+
+		// do not add more colors if pool is full
+		if( pool.size() >= MAX_SIZE )
+			return newColor;
+
+		color = pool.putIfAbsent( argb, newColor );
+		return (color != null) ? color : newColor;
+	}
+
+	/**
+	 * Returns a shared color UI resource with same ARGB value as the given color.
+	 */
+	static ColorUIResource get( Color color ) {
+		return get( color.getRGB() );
+	}
+
+	/**
+	 * Returns an own (not shared) copy of the given color, if the key is one of
+	 * those colors that UI delegates compare by identity (e.g. "TextField.background"
+	 * or "Table.selectionBackground"). Otherwise returns the given value.
+	 * <p>
+	 * This avoids that a color of another key that has the same RGB value
+	 * (e.g. "Panel.background" assigned by the application) is the same instance
+	 * and mistaken for the color of this key.
+	 */
+	static Object unshare( String key, Object value ) {
+		if( !(value instanceof ColorUIResource) )
+			return value;
+
+		for( String suffix : IDENTITY_CHECKED_KEY_SUFFIXES ) {
+			if( key.endsWith( suffix ) )
+				return new ColorUIResource( (Color) value );
+		}
+		return value;
+	}
+
+	static void clear() {
+		pool.clear();
+		requestedCount.set( 0 );
+	}
+
+	/**
+	 * Returns the number of requested colors since last clear.
+	 */
+	static long getRequestedCount() {
+		return requestedCount.get();
+	}
+
+	/**
+	 * Returns the number of distinct colors in the pool.
+	 */
+	static int getDistinctCount() {
+		return pool.size();
+	}
+}
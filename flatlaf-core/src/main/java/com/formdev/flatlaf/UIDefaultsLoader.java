@@ -27,6 +27,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.StreamTokenizer;
 import java.io.StringReader;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
 import java.lang.reflect.Method;
@@ -35,6 +36,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
@@ -44,6 +46,9 @@ import java.util.Properties;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import javax.swing.Icon;
 import javax.swing.UIDefaults;
 import javax.swing.UIManager;
@@ -88,11 +93,14 @@ class UIDefaultsLoader
 	static final String KEY_VARIABLES = "FlatLaf.internal.variables";
 	static final String KEY_PROPERTIES = "FlatLaf.internal.properties";
 
-	private static int parseColorDepth;
+	private static final ThreadLocal<int[]> parseColorDepth = ThreadLocal.withInitial( () -> new int[1] );
 
 	private static Map<String, ColorUIResource> systemColorCache;
 	private static final SoftCache<String, Object> fontCache = new SoftCache<>();
 
+	// number of logged parse errors while loading UI defaults in current thread (for metrics)
+	private static final ThreadLocal<int[]> parseErrorCounter = new ThreadLocal<>();
+
 	static ArrayList<Class<?>> getLafClassesForDefaultsLoading( Class<?> lookAndFeelClass ) {
 		// determine classes in class hierarchy in reverse order
 		ArrayList<Class<?>> lafClasses = new ArrayList<>();
@@ -138,139 +146,45 @@ class UIDefaultsLoader
 		};
 	}
 
-	static void loadDefaultsFromProperties( List<Class<?>> lafClasses, List<FlatDefaultsAddon> addons,
+	static LoadedProperties loadDefaultsFromProperties( List<Class<?>> lafClasses, List<FlatDefaultsAddon> addons,
 		Consumer<Properties> intellijThemesHook, Properties additionalDefaults, boolean dark, UIDefaults defaults )
 	{
+		// count parse errors of this load (errors are logged in current thread)
+		int[] parseErrorCount = new int[1];
+		parseErrorCounter.set( parseErrorCount );
+
 		try {
 			// temporary cache system colors while loading defaults,
 			// which avoids that system color getter is invoked multiple times
-			systemColorCache = (FlatLaf.getSystemColorGetter() != null) ? new HashMap<>() : null;
+			systemColorCache = (FlatLaf.getSystemColorGetter() != null) ? Collections.synchronizedMap( new HashMap<>() ) : null;
 
-			// all properties files will be loaded into this map
-			Properties properties = newUIProperties( dark );
+			// colors of previous look and feel are no longer needed in pool
+			UIColorPool.clear();
 
-			// load core properties files
-			for( Class<?> lafClass : lafClasses ) {
-				String propertiesName = '/' + lafClass.getName().replace( '.', '/' ) + ".properties";
-				try( InputStream in = lafClass.getResourceAsStream( propertiesName ) ) {
-					if( in != null )
-						properties.load( in );
-				}
-			}
+			// load and parse concurrently (if enabled)
+			boolean parallel = FlatSystemProperties.getBoolean( FlatSystemProperties.PARALLEL_DEFAULTS_LOADING, false );
 
-			// load properties from addons
-			for( FlatDefaultsAddon addon : addons ) {
-				for( Class<?> lafClass : lafClasses ) {
-					try( InputStream in = addon.getDefaults( lafClass ) ) {
-						if( in != null )
-							properties.load( in );
-					}
-				}
-			}
+			// remember keys of UI defaults that may be overridden by wildcard replacements
+			// (necessary when reloading properties)
+			Set<Object> baseKeys = new HashSet<>( defaults.keySet() );
 
-			// collect addon class loaders
+			// load all properties files
 			List<ClassLoader> addonClassLoaders = new ArrayList<>();
-			for( FlatDefaultsAddon addon : addons ) {
-				ClassLoader addonClassLoader = addon.getClass().getClassLoader();
-				if( !addonClassLoaders.contains( addonClassLoader ) )
-					addonClassLoaders.add( addonClassLoader );
-			}
-
-			// apply IntelliJ themes properties
-			if( intellijThemesHook != null )
-				intellijThemesHook.accept( properties );
-
-			// load custom properties files (usually provided by applications)
-			List<Object> customDefaultsSources = FlatLaf.getCustomDefaultsSources();
-			int size = (customDefaultsSources != null) ? customDefaultsSources.size() : 0;
-			for( int i = 0; i < size; i++ ) {
-				Object source = customDefaultsSources.get( i );
-				if( source instanceof String && i + 1 < size ) {
-					// load from package in classloader
-					String packageName = (String) source;
-					ClassLoader classLoader = (ClassLoader) customDefaultsSources.get( ++i );
-
-					// use class loader also for instantiating classes specified in values
-					if( classLoader != null && !addonClassLoaders.contains( classLoader ) )
-						addonClassLoaders.add( classLoader );
-
-					packageName = packageName.replace( '.', '/' );
-					if( classLoader == null )
-						classLoader = FlatLaf.class.getClassLoader();
-
-					for( Class<?> lafClass : lafClasses ) {
-						String propertiesName = packageName + '/' + simpleClassName( lafClass ) + ".properties";
-						try( InputStream in = classLoader.getResourceAsStream( propertiesName ) ) {
-							if( in != null )
-								properties.load( in );
-						}
-					}
-				} else if( source instanceof URL ) {
-					// load from package URL
-					URL packageUrl = (URL) source;
-					for( Class<?> lafClass : lafClasses ) {
-						URL propertiesUrl = new URL( packageUrl + simpleClassName( lafClass ) + ".properties" );
-
-						try( InputStream in = propertiesUrl.openStream() ) {
-							properties.load( in );
-						} catch( FileNotFoundException ex ) {
-							// ignore
-						}
-					}
-				} else if( source instanceof File ) {
-					// load from folder
-					File folder = (File) source;
-					for( Class<?> lafClass : lafClasses ) {
-						File propertiesFile = new File( folder, simpleClassName( lafClass ) + ".properties" );
-						if( !propertiesFile.isFile() )
-							continue;
-
-						try( InputStream in = new FileInputStream( propertiesFile ) ) {
-							properties.load( in );
-						}
-					}
-				}
-			}
-
-			// add additional defaults
-			if( additionalDefaults != null )
-				properties.putAll( additionalDefaults );
-
-			// get (and remove) wildcard replacements, which override all other defaults that end with same suffix
 			HashMap<String, String> wildcards = new HashMap<>();
-			Iterator<Entry<Object, Object>> it = properties.entrySet().iterator();
-			while( it.hasNext() ) {
-				Entry<Object, Object> e = it.next();
-				String key = (String) e.getKey();
-				if( key.startsWith( WILDCARD_PREFIX ) ) {
-					wildcards.put( key.substring( WILDCARD_PREFIX.length() ), (String) e.getValue() );
-					it.remove();
-				}
-			}
+			long startTime = System.nanoTime();
+			Properties properties = loadProperties( lafClasses, addons, intellijThemesHook, additionalDefaults,
+				dark, baseKeys, addonClassLoaders, wildcards, parallel );
 
-			// override UI defaults with wildcard replacements
-			for( Object key : defaults.keySet() ) {
-				int dot;
-				if( !(key instanceof String) ||
-					properties.containsKey( key ) ||
-					(dot = ((String)key).lastIndexOf( '.' )) < 0 )
-				  continue;
-
-				String wildcardKey = ((String)key).substring( dot + 1 );
-				String wildcardValue = wildcards.get( wildcardKey );
-				if( wildcardValue != null )
-					properties.put( key, wildcardValue );
-			}
+			LoadedProperties loaded = new LoadedProperties( properties, baseKeys, addonClassLoaders );
+			loaded.loadTime = System.nanoTime() - startTime;
+			startTime = System.nanoTime();
 
-			Function<String, String> propertiesGetter = key -> {
-				return properties.getProperty( key );
-			};
-			Function<String, String> resolver = value -> {
-				return resolveValue( value, propertiesGetter );
-			};
+			// snapshot of previously parsed values (if enabled)
+			UIDefaultsSnapshot snapshot = UIDefaultsSnapshot.load( lafClasses, addons, dark, properties );
 
 			// parse and add properties to UI defaults
 			Map<String, String> variables = new HashMap<>( 50 );
+			List<String> keysToParse = new ArrayList<>( properties.size() );
 			for( Map.Entry<Object, Object> e : properties.entrySet() ) {
 				String key = (String) e.getKey();
 				if( key.startsWith( VARIABLE_PREFIX ) ) {
@@ -278,14 +192,26 @@ class UIDefaultsLoader
 					continue;
 				}
 
-				String value = (String) e.getValue();
-				try {
-					value = resolveValue( value, propertiesGetter );
-					defaults.put( key, parseValue( key, value, null, null, resolver, addonClassLoaders ) );
-				} catch( RuntimeException ex ) {
-					logParseError( key, value, ex, true );
+				// use value from snapshot
+				if( snapshot != null && snapshot.containsKey( key ) ) {
+					defaults.put( key, UIColorPool.unshare( key, snapshot.get( key ) ) );
+					Set<String> refs = snapshot.getReferences( key );
+					if( !refs.isEmpty() )
+						loaded.references.put( key, refs );
+					continue;
 				}
+
+				keysToParse.add( key );
 			}
+			parseValues( keysToParse, loaded, snapshot, defaults, parallel );
+
+			loaded.parseTime = System.nanoTime() - startTime;
+			loaded.colorCount = UIColorPool.getRequestedCount();
+			loaded.distinctColorCount = UIColorPool.getDistinctCount();
+
+			// write snapshot (if not yet existing or outdated)
+			if( snapshot != null )
+				snapshot.save();
 
 			// remember variables in defaults to allow using them in styles
 			defaults.put( KEY_VARIABLES, variables );
@@ -301,8 +227,352 @@ class UIDefaultsLoader
 
 			// clear/disable system color cache
 			systemColorCache = null;
+
+			loaded.parseErrorCount = parseErrorCount[0];
+			return loaded;
+		} catch( IOException ex ) {
+			LoggingFacade.INSTANCE.logSevere( "FlatLaf: Failed to load properties files.", ex );
+			return null;
+		} finally {
+			parseErrorCounter.remove();
+		}
+	}
+
+	/**
+	 * Reloads properties files and re-parses only those UI defaults values that
+	 * have changed or that reference (directly or indirectly) changed properties or variables.
+	 *
+	 * @return keys of changed UI defaults (including changed variables and {@link #KEY_VARIABLES});
+	 *         or {@code null} if an incremental update is not possible (e.g. because properties were removed)
+	 */
+	static Set<String> updateDefaultsFromProperties( List<Class<?>> lafClasses, List<FlatDefaultsAddon> addons,
+		Consumer<Properties> intellijThemesHook, Properties additionalDefaults, boolean dark,
+		LoadedProperties loaded, UIDefaults defaults )
+	{
+		try {
+			systemColorCache = (FlatLaf.getSystemColorGetter() != null) ? Collections.synchronizedMap( new HashMap<>() ) : null;
+
+			boolean parallel = FlatSystemProperties.getBoolean( FlatSystemProperties.PARALLEL_DEFAULTS_LOADING, false );
+
+			// load all properties files
+			List<ClassLoader> addonClassLoaders = new ArrayList<>();
+			Properties properties = loadProperties( lafClasses, addons, intellijThemesHook, additionalDefaults,
+				dark, loaded.baseKeys, addonClassLoaders, new HashMap<>(), parallel );
+
+			// removed properties are not supported because the previous value
+			// (e.g. from basic look and feel) is not known
+			Properties oldProperties = loaded.properties;
+			for( Object key : oldProperties.keySet() ) {
+				if( !properties.containsKey( key ) )
+					return null;
+			}
+
+			// determine changed properties
+			Set<String> changedKeys = new HashSet<>();
+			for( Map.Entry<Object, Object> e : properties.entrySet() ) {
+				if( !e.getValue().equals( oldProperties.get( e.getKey() ) ) )
+					changedKeys.add( (String) e.getKey() );
+			}
+			if( changedKeys.isEmpty() )
+				return changedKeys;
+
+			// determine values that reference changed properties or variables
+			// (references are recorded transitively while parsing)
+			Set<String> affectedKeys = new HashSet<>( changedKeys );
+			for( Map.Entry<String, Set<String>> e : loaded.references.entrySet() ) {
+				if( !Collections.disjoint( e.getValue(), changedKeys ) )
+					affectedKeys.add( e.getKey() );
+			}
+
+			// default font is post-processed in FlatLaf.getDefaults()
+			if( affectedKeys.contains( "defaultFont" ) )
+				return null;
+
+			loaded.properties = properties;
+			loaded.addonClassLoaders = addonClassLoaders;
+
+			// parse affected values
+			boolean variablesChanged = false;
+			List<String> keysToParse = new ArrayList<>( affectedKeys.size() );
+			for( String key : affectedKeys ) {
+				if( key.startsWith( VARIABLE_PREFIX ) )
+					variablesChanged = true;
+				else
+					keysToParse.add( key );
+			}
+			parseValues( keysToParse, loaded, null, defaults, parallel );
+
+			// update variables in defaults (used in styles)
+			if( variablesChanged ) {
+				Map<String, String> variables = new HashMap<>( 50 );
+				for( Map.Entry<Object, Object> e : properties.entrySet() ) {
+					String key = (String) e.getKey();
+					if( key.startsWith( VARIABLE_PREFIX ) )
+						variables.put( key, (String) e.getValue() );
+				}
+				defaults.put( KEY_VARIABLES, variables );
+				affectedKeys.add( KEY_VARIABLES );
+			}
+
+			// clear/disable system color cache
+			systemColorCache = null;
+
+			return affectedKeys;
 		} catch( IOException ex ) {
 			LoggingFacade.INSTANCE.logSevere( "FlatLaf: Failed to load properties files.", ex );
+			return null;
+		}
+	}
+
+	/**
+	 * Loads all properties files (core, addons, IntelliJ themes, custom defaults sources
+	 * and additional defaults) into one properties map and applies wildcard replacements.
+	 */
+	private static Properties loadProperties( List<Class<?>> lafClasses, List<FlatDefaultsAddon> addons,
+		Consumer<Properties> intellijThemesHook, Properties additionalDefaults, boolean dark,
+		Set<Object> baseKeys, List<ClassLoader> addonClassLoaders, Map<String, String> wildcards, boolean parallel )
+			throws IOException
+	{
+		// all properties files will be loaded into this map
+		Properties properties = newUIProperties( dark );
+
+		// core properties files
+		List<PropertiesSource> sources = new ArrayList<>();
+		for( Class<?> lafClass : lafClasses ) {
+			String propertiesName = '/' + lafClass.getName().replace( '.', '/' ) + ".properties";
+			sources.add( () -> lafClass.getResourceAsStream( propertiesName ) );
+		}
+
+		// properties from addons
+		for( FlatDefaultsAddon addon : addons ) {
+			for( Class<?> lafClass : lafClasses )
+				sources.add( () -> addon.getDefaults( lafClass ) );
+		}
+
+		// collect addon class loaders
+		for( FlatDefaultsAddon addon : addons ) {
+			ClassLoader addonClassLoader = addon.getClass().getClassLoader();
+			if( !addonClassLoaders.contains( addonClassLoader ) )
+				addonClassLoaders.add( addonClassLoader );
+		}
+
+		// custom properties files (usually provided by applications)
+		List<PropertiesSource> customSources = new ArrayList<>();
+		List<Object> customDefaultsSources = FlatLaf.getCustomDefaultsSources();
+		int size = (customDefaultsSources != null) ? customDefaultsSources.size() : 0;
+		for( int i = 0; i < size; i++ ) {
+			Object source = customDefaultsSources.get( i );
+			if( source instanceof String && i + 1 < size ) {
+				// load from package in classloader
+				String packageName = (String) source;
+				ClassLoader classLoader = (ClassLoader) customDefaultsSources.get( ++i );
+
+				// use class loader also for instantiating classes specified in values
+				if( classLoader != null && !addonClassLoaders.contains( classLoader ) )
+					addonClassLoaders.add( classLoader );
+
+				packageName = packageName.replace( '.', '/' );
+				ClassLoader cl = (classLoader != null) ? classLoader : FlatLaf.class.getClassLoader();
+
+				for( Class<?> lafClass : lafClasses ) {
+					String propertiesName = packageName + '/' + simpleClassName( lafClass ) + ".properties";
+					customSources.add( () -> cl.getResourceAsStream( propertiesName ) );
+				}
+			} else if( source instanceof URL ) {
+				// load from package URL
+				URL packageUrl = (URL) source;
+				for( Class<?> lafClass : lafClasses ) {
+					URL propertiesUrl = new URL( packageUrl + simpleClassName( lafClass ) + ".properties" );
+					customSources.add( () -> {
+						try {
+							return propertiesUrl.openStream();
+						} catch( FileNotFoundException ex ) {
+							return null; // ignore
+						}
+					} );
+				}
+			} else if( source instanceof File ) {
+				// load from folder
+				File folder = (File) source;
+				for( Class<?> lafClass : lafClasses ) {
+					File propertiesFile = new File( folder, simpleClassName( lafClass ) + ".properties" );
+					customSources.add( () -> {
+						return propertiesFile.isFile() ? new FileInputStream( propertiesFile ) : null;
+					} );
+				}
+			}
+		}
+
+		if( parallel ) {
+			// read all sources concurrently, but merge them in loading order
+			int coreCount = sources.size();
+			sources.addAll( customSources );
+			List<Properties> loaded = loadSourcesParallel( sources, dark );
+			for( int i = 0; i < coreCount; i++ )
+				properties.putAll( loaded.get( i ) );
+
+			// apply IntelliJ themes properties
+			if( intellijThemesHook != null )
+				intellijThemesHook.accept( properties );
+
+			for( int i = coreCount; i < loaded.size(); i++ )
+				properties.putAll( loaded.get( i ) );
+		} else {
+			loadSources( sources, properties );
+
+			// apply IntelliJ themes properties
+			if( intellijThemesHook != null )
+				intellijThemesHook.accept( properties );
+
+			loadSources( customSources, properties );
+		}
+
+		// add additional defaults
+		if( additionalDefaults != null )
+			properties.putAll( additionalDefaults );
+
+		// get (and remove) wildcard replacements, which override all other defaults that end with same suffix
+		Iterator<Entry<Object, Object>> it = properties.entrySet().iterator();
+		while( it.hasNext() ) {
+			Entry<Object, Object> e = it.next();
+			String key = (String) e.getKey();
+			if( key.startsWith( WILDCARD_PREFIX ) ) {
+				wildcards.put( key.substring( WILDCARD_PREFIX.length() ), (String) e.getValue() );
+				it.remove();
+			}
+		}
+
+		// override UI defaults with wildcard replacements
+		for( Object key : baseKeys ) {
+			int dot;
+			if( !(key instanceof String) ||
+				properties.containsKey( key ) ||
+				(dot = ((String)key).lastIndexOf( '.' )) < 0 )
+			  continue;
+
+			String wildcardKey = ((String)key).substring( dot + 1 );
+			String wildcardValue = wildcards.get( wildcardKey );
+			if( wildcardValue != null )
+				properties.put( key, wildcardValue );
+		}
+
+		return properties;
+	}
+
+	private static void loadSources( List<PropertiesSource> sources, Properties properties )
+		throws IOException
+	{
+		for( PropertiesSource source : sources ) {
+			try( InputStream in = source.open() ) {
+				if( in != null )
+					properties.load( in );
+			}
+		}
+	}
+
+	/**
+	 * Loads the given sources concurrently into separate properties.
+	 * The returned list has the same order as the given sources.
+	 */
+	private static List<Properties> loadSourcesParallel( List<PropertiesSource> sources, boolean dark )
+		throws IOException
+	{
+		try {
+			return sources.parallelStream()
+				.map( source -> {
+					Properties properties = newUIProperties( dark );
+					try( InputStream in = source.open() ) {
+						if( in != null )
+							properties.load( in );
+					} catch( IOException ex ) {
+						throw new UncheckedIOException( ex );
+					}
+					return properties;
+				} )
+				.collect( Collectors.toList() );
+		} catch( UncheckedIOException ex ) {
+			throw ex.getCause();
+		}
+	}
+
+	/**
+	 * Parses the values of the given keys and adds them to UI defaults.
+	 * Keys of referenced variables and properties are recorded in {@code loaded}.
+	 * <p>
+	 * If {@code parallel} is {@code true}, values are parsed concurrently.
+	 * Values can be parsed independent of each other because references to
+	 * variables and properties are resolved from the (unparsed) properties strings
+	 * and lazy values are resolved later from UI manager.
+	 * Parsed values are added to UI defaults (and parse errors are logged)
+	 * in the same order as when parsing sequentially.
+	 */
+	private static void parseValues( List<String> keys, LoadedProperties loaded,
+		UIDefaultsSnapshot snapshot, UIDefaults defaults, boolean parallel )
+	{
+		Properties properties = loaded.properties;
+		List<ClassLoader> addonClassLoaders = loaded.addonClassLoaders;
+
+		int count = keys.size();
+		String[] values = new String[count];
+		Object[] parsedValues = new Object[count];
+		RuntimeException[] errors = new RuntimeException[count];
+		@SuppressWarnings( { "unchecked", "rawtypes" } )
+		Set<String>[] references = new Set[count];
+
+		IntConsumer parser = i -> {
+			String key = keys.get( i );
+
+			// record referenced variables and properties (also indirect references)
+			Set<String> refs = new HashSet<>();
+			Function<String, String> propertiesGetter = k -> {
+				refs.add( k );
+				return properties.getProperty( k );
+			};
+			Function<String, String> resolver = v -> {
+				return resolveValue( v, propertiesGetter );
+			};
+
+			String value = properties.getProperty( key );
+			try {
+				value = resolveValue( value, propertiesGetter );
+				parsedValues[i] = parseValue( key, value, null, new ValueType[1], resolver, addonClassLoaders );
+			} catch( RuntimeException ex ) {
+				errors[i] = ex;
+			}
+			values[i] = value;
+			references[i] = refs;
+		};
+
+		if( parallel )
+			IntStream.range( 0, count ).parallel().forEach( parser );
+		else {
+			for( int i = 0; i < count; i++ )
+				parser.accept( i );
+		}
+
+		for( int i = 0; i < count; i++ ) {
+			String key = keys.get( i );
+			Set<String> refs = references[i];
+			if( refs.isEmpty() )
+				loaded.references.remove( key );
+			else
+				loaded.references.put( key, refs );
+
+			if( errors[i] != null ) {
+				logParseError( key, values[i], errors[i], true );
+				continue;
+			}
+
+			Object parsedValue = parsedValues[i];
+			defaults.put( key, UIColorPool.unshare( key, parsedValue ) );
+
+			if( parsedValue instanceof LazyValue )
+				loaded.lazyValues.put( key, (LazyValue) parsedValue );
+			else
+				loaded.lazyValues.remove( key );
+
+			if( snapshot != null )
+				snapshot.record( key, parsedValue, refs );
 		}
 	}
 
@@ -315,6 +585,10 @@ class UIDefaultsLoader
 	}
 
 	static void logParseError( String key, String value, RuntimeException ex, boolean severe ) {
+		int[] parseErrorCount = parseErrorCounter.get();
+		if( parseErrorCount != null )
+			parseErrorCount[0]++;
+
 		String message = "FlatLaf: Failed to parse: '" + key + '=' + value + '\'';
 		if( severe )
 			LoggingFacade.INSTANCE.logSevere( message, ex );
@@ -391,8 +665,8 @@ class UIDefaultsLoader
 		SCALEDINTEGER, SCALEDFLOAT, SCALEDINSETS, SCALEDDIMENSION, INSTANCE, CLASS, GRAYFILTER, NULL, LAZY }
 
 	private static final ValueType[] tempResultValueType = new ValueType[1];
-	private static Map<Class<?>, ValueType> javaValueTypes;
-	private static Map<String, ValueType> knownValueTypes;
+	private static volatile Map<Class<?>, ValueType> javaValueTypes;
+	private static volatile Map<String, ValueType> knownValueTypes;
 
 	static Object parseValue( String key, String value, Class<?> valueType )
 		throws IllegalArgumentException
@@ -444,7 +718,7 @@ class UIDefaultsLoader
 		if( javaValueType != null ) {
 			if( javaValueTypes == null ) {
 				// create lazy
-				javaValueTypes = new HashMap<>();
+				Map<Class<?>, ValueType> javaValueTypes = new HashMap<>();
 				javaValueTypes.put( String.class, ValueType.STRING );
 				javaValueTypes.put( boolean.class, ValueType.BOOLEAN );
 				javaValueTypes.put( Boolean.class, ValueType.BOOLEAN );
@@ -460,6 +734,7 @@ class UIDefaultsLoader
 				javaValueTypes.put( Dimension.class, ValueType.DIMENSION );
 				javaValueTypes.put( Color.class, ValueType.COLOR );
 				javaValueTypes.put( Font.class, ValueType.FONT );
+				UIDefaultsLoader.javaValueTypes = javaValueTypes;
 			}
 
 			// map java value type to parser value type
@@ -508,7 +783,7 @@ class UIDefaultsLoader
 			if( valueType == ValueType.UNKNOWN ) {
 				if( knownValueTypes == null ) {
 					// create lazy
-					knownValueTypes = new HashMap<>();
+					Map<String, ValueType> knownValueTypes = new HashMap<>();
 					// system colors
 					knownValueTypes.put( "activeCaptionBorder", ValueType.COLOR );
 					knownValueTypes.put( "inactiveCaptionBorder", ValueType.COLOR );
@@ -526,6 +801,7 @@ class UIDefaultsLoader
 					// Table
 					knownValueTypes.put( "Table.intercellSpacing", ValueType.DIMENSION );
 					knownValueTypes.put( "intercellSpacing", ValueType.DIMENSION );
+					UIDefaultsLoader.knownValueTypes = knownValueTypes;
 				}
 
 				valueType = knownValueTypes.getOrDefault( key, ValueType.UNKNOWN );
@@ -769,10 +1045,7 @@ class UIDefaultsLoader
 	static ColorUIResource parseColor( String value )
 		throws IllegalArgumentException
 	{
-		int rgba = parseColorRGBA( value );
-		return ((rgba & 0xff000000) == 0xff000000)
-			? new ColorUIResource( rgba )
-			: new ColorUIResource( new Color( rgba, true ) );
+		return UIColorPool.get( parseColorRGBA( value ) );
 	}
 
 	/**
@@ -835,10 +1108,11 @@ class UIDefaultsLoader
 		if( params.isEmpty() )
 			throw newMissingParametersException( value );
 
-		if( parseColorDepth > 100 )
+		int[] depth = parseColorDepth.get();
+		if( depth[0] > 100 )
 			throw new IllegalArgumentException( "endless recursion in color function '" + value + "'" );
 
-		parseColorDepth++;
+		depth[0]++;
 		try {
 			switch( function ) {
 				case "if":			return parseColorIf( value, params, resolver );
@@ -867,7 +1141,7 @@ class UIDefaultsLoader
 				case "over":			return parseColorOver( params, resolver );
 			}
 		} finally {
-			parseColorDepth--;
+			depth[0]--;
 		}
 
 		throw new IllegalArgumentException( "unknown color function '" + value + "'" );
@@ -948,7 +1222,7 @@ class UIDefaultsLoader
 			return systemColorCache.get( name );
 
 		Color color = systemColorGetter.apply( name );
-		ColorUIResource uiColor = (color != null) ? new ColorUIResource( color ) : null;
+		ColorUIResource uiColor = (color != null) ? UIColorPool.get( color ) : null;
 
 		if( systemColorCache != null )
 			systemColorCache.put( name, uiColor );
@@ -975,7 +1249,7 @@ class UIDefaultsLoader
 			int alpha = parseInteger( params.get( 1 ), 0, 255, true );
 
 			ColorUIResource color = (ColorUIResource) parseColorOrFunction( resolver.apply( colorStr ), resolver );
-			return new ColorUIResource( new Color( ((alpha & 0xff) << 24) | (color.getRGB() & 0xffffff), true ) );
+			return UIColorPool.get( ((alpha & 0xff) << 24) | (color.getRGB() & 0xffffff) );
 		}
 
 		int red = parseInteger( params.get( 0 ), 0, 255, true );
@@ -983,9 +1257,7 @@ class UIDefaultsLoader
 		int blue = parseInteger( params.get( 2 ), 0, 255, true );
 		int alpha = hasAlpha ? parseInteger( params.get( 3 ), 0, 255, true ) : 255;
 
-		return hasAlpha
-			? new ColorUIResource( new Color( red, green, blue, alpha ) )
-			: new ColorUIResource( red, green, blue );
+		return UIColorPool.get( ((alpha & 0xff) << 24) | (red << 16) | (green << 8) | blue );
 	}
 
 	/**
@@ -1004,7 +1276,7 @@ class UIDefaultsLoader
 		int alpha = hasAlpha ? parsePercentage( params.get( 3 ) ) : 100;
 
 		float[] hsl = { hue, saturation, lightness };
-		return new ColorUIResource( HSLColor.toRGB( hsl, alpha / 100f ) );
+		return UIColorPool.get( HSLColor.toRGB( hsl, alpha / 100f ) );
 	}
 
 	/**
@@ -1242,7 +1514,7 @@ class UIDefaultsLoader
 			return foreground;
 
 		// foreground color without alpha
-		ColorUIResource foreground2 = new ColorUIResource( foreground.getRGB() );
+		ColorUIResource foreground2 = UIColorPool.get( foreground.getRGB() | 0xff000000 );
 
 		// parse background color
 		ColorUIResource background = (ColorUIResource) parseColorOrFunction( resolver.apply( backgroundStr ), resolver );
@@ -1251,7 +1523,7 @@ class UIDefaultsLoader
 
 		// create new color
 		float weight = foreground.getAlpha() / 255f;
-		return new ColorUIResource( ColorFunctions.mix( foreground2, background, weight ) );
+		return UIColorPool.get( ColorFunctions.mix( foreground2, background, weight ) );
 	}
 
 	private static Object parseFunctionBaseColor( String colorStr, ColorFunction function,
@@ -1265,7 +1537,7 @@ class UIDefaultsLoader
 			return null;
 
 		// apply this function to base color
-		Color newColor = ColorFunctions.applyFunctions( baseColor, function );
+		int newRGB = ColorFunctions.applyFunctions( baseColor.getRGB(), function );
 
 		if( derived ) {
 			ColorFunction[] functions;
@@ -1279,17 +1551,17 @@ class UIDefaultsLoader
 			} else
 				functions = new ColorFunction[] { function };
 
-			return new DerivedColor( newColor, functions );
+			return new DerivedColor( new Color( newRGB, true ), functions );
 		}
 
-		return new ColorUIResource( newColor );
+		return UIColorPool.get( newRGB );
 	}
 
 	private static LazyValue newLazyColorFunction( String uiKey, ColorFunction function ) {
 		return (LazyValue) t -> {
 			Object color = lazyUIManagerGet( uiKey );
 			return (color instanceof Color)
-				? new ColorUIResource( ColorFunctions.applyFunctions( (Color) color, function ) )
+				? UIColorPool.get( ColorFunctions.applyFunctions( ((Color) color).getRGB(), function ) )
 				: null;
 		};
 	}
@@ -1300,7 +1572,10 @@ class UIDefaultsLoader
 	private static Object parseFont( String value )
 		throws IllegalArgumentException
 	{
-		Object font = fontCache.get( value );
+		Object font;
+		synchronized( fontCache ) {
+			font = fontCache.get( value );
+		}
 		if( font != null )
 			return font;
 
@@ -1393,7 +1668,9 @@ class UIDefaultsLoader
 		}
 
 		font = new FlatLaf.ActiveFont( baseFontKey, families, style, styleChange, absoluteSize, relativeSize, scaleSize );
-		fontCache.put( value, font );
+		synchronized( fontCache ) {
+			fontCache.put( value, font );
+		}
 		return font;
 	}
 
@@ -1663,4 +1940,50 @@ class UIDefaultsLoader
 	private static IllegalArgumentException newMissingParametersException( String value ) {
 		return new IllegalArgumentException( "missing parameters in function '" + value + "'" );
 	}
+
+	//---- class LoadedProperties ---------------------------------------------
+
+	/**
+	 * Loaded properties and information about them,
+	 * which is necessary to update UI defaults incrementally.
+	 */
+	static class LoadedProperties
+	{
+		/** merged properties (after applying wildcard replacements) */
+		Properties properties;
+		/** keys of UI defaults that existed before properties were loaded (for wildcard replacements) */
+		final Set<Object> baseKeys;
+		List<ClassLoader> addonClassLoaders;
+
+		/** key --> keys of variables and properties referenced (directly or indirectly) in value */
+		final Map<String, Set<String>> references = new HashMap<>();
+		/** key --> parsed lazy value */
+		final Map<String, LazyValue> lazyValues = new HashMap<>();
+
+		/** time (in nanoseconds) used to load and to parse properties (for metrics) */
+		long loadTime;
+		long parseTime;
+		/** number of requested and distinct colors in color pool (for metrics) */
+		long colorCount;
+		int distinctColorCount;
+		/** number of properties that could not be parsed (for metrics) */
+		int parseErrorCount;
+
+		LoadedProperties( Properties properties, Set<Object> baseKeys, List<ClassLoader> addonClassLoaders ) {
+			this.properties = properties;
+			this.baseKeys = baseKeys;
+			this.addonClassLoaders = addonClassLoaders;
+		}
+	}
+
+	//---- interface PropertiesSource -----------------------------------------
+
+	@FunctionalInterface
+	private interface PropertiesSource
+	{
+		/**
+		 * Opens the properties source. Returns {@code null} if it does not exist.
+		 */
+		InputStream open() throws IOException;
+	}
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf;
+
+import java.util.Map;
+import javax.swing.UIDefaults.ActiveValue;
+import javax.swing.UIDefaults.LazyValue;
+
+/**
+ * An immutable hash table with open addressing (linear probing),
+ * used for lock-free lookups of UI defaults values.
+ * <p>
+ * Lazy and active values are not stored because they need to be
+ * resolved by {@link javax.swing.UIDefaults}.
+ * For keys of lazy values, {@link #LAZY_VALUE} is stored instead,
+ * which allows detecting that the table becomes outdated when lazy values are resolved.
+ * <p>
+ * Instances are immutable and safely published via a volatile field,
+ * so readers never need to synchronize.
+ *
+ * @author Karl Tauber
+ */
+final class UIDefaultsReadTable
+{
+	/** stored for keys of lazy values */
+	static final Object LAZY_VALUE = new Object();
+
+	private final Object[] keys;
+	private final Object[] values;
+	private final int size;
+
+	private UIDefaultsReadTable( int expectedSize ) {
+		// use load factor of at most 0.5 to keep probe sequences short
+		int capacity = Integer.highestOneBit( Math.max( expectedSize, 8 ) * 2 - 1 ) << 1;
+		keys = new Object[capacity];
+		values = new Object[capacity];
+		size = expectedSize;
+	}
+
+	/**
+	 * Creates a table that contains all storable entries of the given map.
+	 * Invoke while holding the monitor of the map if the map is synchronized.
+	 */
+	static UIDefaultsReadTable of( Map<?, ?> map ) {
+		int count = 0;
+		for( Map.Entry<?, ?> e : map.entrySet() ) {
+			if( storableValue( e.getValue() ) != null )
+				count++;
+		}
+
+		UIDefaultsReadTable table = new UIDefaultsReadTable( count );
+		for( Map.Entry<?, ?> e : map.entrySet() ) {
+			Object value = storableValue( e.getValue() );
+			if( value != null )
+				table.add( e.getKey(), value );
+		}
+		return table;
+	}
+
+	/**
+	 * Returns the value for the given key, {@link #LAZY_VALUE} if the value is lazy,
+	 * or {@code null} if not stored in this table.
+	 */
+	Object get( Object key ) {
+		Object[] keys = this.keys;
+		int mask = keys.length - 1;
+		for( int i = hash( key ) & mask; ; i = (i + 1) & mask ) {
+			Object k = keys[i];
+			if( k == null )
+				return null;
+			if( k == key || k.equals( key ) )
+				return values[i];
+		}
+	}
+
+	int size() {
+		return size;
+	}
+
+	private void add( Object key, Object value ) {
+		int mask = keys.length - 1;
+		int i = hash( key ) & mask;
+		while( keys[i] != null )
+			i = (i + 1) & mask;
+		keys[i] = key;
+		values[i] = value;
+	}
+
+	private static int hash( Object key ) {
+		int h = key.hashCode();
+		return h ^ (h >>> 16);
+	}
+
+	private static Object storableValue( Object value ) {
+		if( value == null || value instanceof ActiveValue )
+			return null;
+
+		// UIDefaults uses a marker object while creating lazy values
+		if( value instanceof LazyValue || value.getClass() == Object.class )
+			return LAZY_VALUE;
+
+		return value;
+	}
+}
@@ -0,0 +1,351 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf;
+
+import java.awt.Color;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import javax.swing.plaf.ColorUIResource;
+import com.formdev.flatlaf.util.LoggingFacade;
+
+/**
+ * A compact binary snapshot of parsed UI defaults values, which allows skipping
+ * variable/reference resolving and value parsing (e.g. color functions) when
+ * loading the same properties again (e.g. on next application start).
+ * <p>
+ * Only immutable values (colors, numbers, booleans, characters and strings) are stored.
+ * All other values (e.g. borders, icons, insets, fonts, derived or lazy colors)
+ * are parsed as usual.
+ * For each value, the keys of referenced variables and properties are stored too,
+ * which are necessary to update UI defaults incrementally.
+ * <p>
+ * The snapshot contains a hash of the (merged) properties used to create it.
+ * If properties change (e.g. other FlatLaf version, different addons,
+ * custom defaults sources or extra defaults), the snapshot is not used
+ * and is replaced with a new one.
+ * <p>
+ * Snapshots are only used if system property {@link FlatSystemProperties#UI_DEFAULTS_SNAPSHOT_DIR}
+ * is set, and if no system color getter is set (see {@link FlatLaf#setSystemColorGetter}).
+ *
+ * @author Karl Tauber
+ */
+class UIDefaultsSnapshot
+{
+	private static final int MAGIC = 0x464c5344; // "FLSD"
+	private static final int FORMAT_VERSION = 2;
+
+	private static final byte TYPE_NULL = 0;
+	private static final byte TYPE_BOOLEAN = 1;
+	private static final byte TYPE_CHARACTER = 2;
+	private static final byte TYPE_INTEGER = 3;
+	private static final byte TYPE_FLOAT = 4;
+	private static final byte TYPE_STRING = 5;
+	private static final byte TYPE_COLOR = 6;
+
+	private final File file;
+	private final byte[] hash;
+
+	/** values loaded from snapshot file; or {@code null} if snapshot file is missing or outdated */
+	private final Map<String, Entry> values;
+	/** values recorded while parsing (for writing new snapshot file) */
+	private Map<String, Entry> recordedValues;
+
+	private UIDefaultsSnapshot( File file, byte[] hash, Map<String, Entry> values ) {
+		this.file = file;
+		this.hash = hash;
+		this.values = values;
+
+		if( values == null )
+			recordedValues = new LinkedHashMap<>( 1500 );
+	}
+
+	/**
+	 * Returns a snapshot for the given (merged) properties.
+	 * If the snapshot file exists and is up-to-date, then {@link #isLoaded()} returns {@code true}
+	 * and parsed values are available via {@link #containsKey(String)} and {@link #get(String)}.
+	 * Otherwise, parsed values should be passed to {@link #record(String, Object, Set)}
+	 * and {@link #save()} be invoked after parsing.
+	 *
+	 * @return snapshot, or {@code null} if snapshots are disabled
+	 */
+	static UIDefaultsSnapshot load( List<Class<?>> lafClasses, List<FlatDefaultsAddon> addons,
+		boolean dark, Properties properties )
+	{
+		String dir = System.getProperty( FlatSystemProperties.UI_DEFAULTS_SNAPSHOT_DIR );
+		if( dir == null || dir.isEmpty() )
+			return null;
+
+		// system colors may change at any time
+		if( FlatLaf.getSystemColorGetter() != null )
+			return null;
+
+		try {
+			File file = new File( dir, snapshotFileName( lafClasses, addons, dark ) );
+			byte[] hash = contentHash( properties );
+			return new UIDefaultsSnapshot( file, hash, readValues( file, hash ) );
+		} catch( IOException | NoSuchAlgorithmException ex ) {
+			LoggingFacade.INSTANCE.logConfig( "FlatLaf: Failed to load UI defaults snapshot.", ex );
+			return null;
+		}
+	}
+
+	boolean isLoaded() {
+		return values != null;
+	}
+
+	boolean containsKey( String key ) {
+		return values != null && values.containsKey( key );
+	}
+
+	Object get( String key ) {
+		Entry entry = (values != null) ? values.get( key ) : null;
+		return (entry != null) ? entry.value : null;
+	}
+
+	/**
+	 * Returns the keys of variables and properties referenced in the value of the given key.
+	 */
+	Set<String> getReferences( String key ) {
+		Entry entry = (values != null) ? values.get( key ) : null;
+		return (entry != null) ? entry.references : Collections.emptySet();
+	}
+
+	/**
+	 * Remembers the parsed value and the referenced variables and properties for the given key.
+	 * Values that can not be stored in the snapshot are ignored.
+	 */
+	void record( String key, Object value, Set<String> references ) {
+		if( recordedValues != null && isSupportedValue( value ) )
+			recordedValues.put( key, new Entry( value, references ) );
+	}
+
+	/**
+	 * Writes recorded values to the snapshot file, if the snapshot was not loaded from file.
+	 */
+	void save() {
+		if( recordedValues == null )
+			return;
+
+		try {
+			File parent = file.getParentFile();
+			if( parent != null && !parent.isDirectory() && !parent.mkdirs() )
+				throw new IOException( "failed to create directory '" + parent + "'" );
+
+			// write to temporary file and rename it afterwards to avoid
+			// that other processes read partially written snapshot files
+			File tempFile = File.createTempFile( file.getName(), ".tmp", parent );
+			try {
+				try( DataOutputStream out = new DataOutputStream( new BufferedOutputStream( new FileOutputStream( tempFile ) ) ) ) {
+					writeValues( out, hash, recordedValues );
+				}
+				Files.move( tempFile.toPath(), file.toPath(),
+					StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+			} finally {
+				tempFile.delete();
+			}
+		} catch( IOException ex ) {
+			LoggingFacade.INSTANCE.logConfig( "FlatLaf: Failed to save UI defaults snapshot '" + file + "'.", ex );
+		} finally {
+			recordedValues = null;
+		}
+	}
+
+	private static boolean isSupportedValue( Object value ) {
+		return value == null ||
+			value instanceof Boolean ||
+			value instanceof Character ||
+			value instanceof Integer ||
+			value instanceof Float ||
+			value instanceof String ||
+			value.getClass() == ColorUIResource.class;
+	}
+
+	/**
+	 * Snapshot file name depends on LaF classes, addons and dark flag,
+	 * but not on properties, so that outdated snapshots are replaced.
+	 */
+	private static String snapshotFileName( List<Class<?>> lafClasses, List<FlatDefaultsAddon> addons, boolean dark )
+		throws NoSuchAlgorithmException
+	{
+		StringBuilder buf = new StringBuilder();
+		for( Class<?> lafClass : lafClasses )
+			buf.append( lafClass.getName() ).append( '\n' );
+		for( FlatDefaultsAddon addon : addons )
+			buf.append( addon.getClass().getName() ).append( '\n' );
+		buf.append( dark );
+
+		byte[] digest = MessageDigest.getInstance( "SHA-1" ).digest( buf.toString().getBytes( StandardCharsets.UTF_8 ) );
+		String lafName = UIDefaultsLoader.simpleClassName( lafClasses.get( lafClasses.size() - 1 ) );
+		return String.format( "%s-%016x.uidefaults", lafName, toLong( digest ) );
+	}
+
+	private static byte[] contentHash( Properties properties )
+		throws NoSuchAlgorithmException
+	{
+		MessageDigest md = MessageDigest.getInstance( "SHA-1" );
+		update( md, String.valueOf( FORMAT_VERSION ) );
+		update( md, FlatLaf.getBuildVersion() );
+
+		// sort properties to get stable hash
+		TreeMap<String, String> sorted = new TreeMap<>();
+		for( Map.Entry<Object, Object> e : properties.entrySet() )
+			sorted.put( (String) e.getKey(), (String) e.getValue() );
+		for( Map.Entry<String, String> e : sorted.entrySet() ) {
+			update( md, e.getKey() );
+			update( md, e.getValue() );
+		}
+		return md.digest();
+	}
+
+	private static void update( MessageDigest md, String s ) {
+		md.update( s.getBytes( StandardCharsets.UTF_8 ) );
+		md.update( (byte) 0 );
+	}
+
+	private static long toLong( byte[] bytes ) {
+		long l = 0;
+		for( int i = 0; i < 8; i++ )
+			l = (l << 8) | (bytes[i] & 0xff);
+		return l;
+	}
+
+	private static Map<String, Entry> readValues( File file, byte[] expectedHash )
+		throws IOException
+	{
+		if( !file.isFile() )
+			return null;
+
+		try( DataInputStream in = new DataInputStream( new BufferedInputStream( new FileInputStream( file ) ) ) ) {
+			if( in.readInt() != MAGIC || in.readShort() != FORMAT_VERSION )
+				return null;
+
+			byte[] hash = new byte[in.readUnsignedByte()];
+			in.readFully( hash );
+			if( !Arrays.equals( hash, expectedHash ) )
+				return null; // outdated
+
+			int count = in.readInt();
+			Map<String, Entry> values = new HashMap<>( (int) (count / 0.75f) + 1 );
+			for( int i = 0; i < count; i++ ) {
+				String key = in.readUTF();
+				byte type = in.readByte();
+				Object value;
+				switch( type ) {
+					case TYPE_NULL:			value = null; break;
+					case TYPE_BOOLEAN:		value = in.readBoolean(); break;
+					case TYPE_CHARACTER:	value = in.readChar(); break;
+					case TYPE_INTEGER:		value = in.readInt(); break;
+					case TYPE_FLOAT:		value = in.readFloat(); break;
+					case TYPE_STRING:		value = in.readUTF(); break;
+					case TYPE_COLOR:
+						value = UIColorPool.get( in.readInt() );
+						break;
+
+					default:
+						throw new IOException( "invalid value type " + type + " in '" + file + "'" );
+				}
+
+				int refCount = in.readUnsignedShort();
+				Set<String> references;
+				if( refCount > 0 ) {
+					references = new HashSet<>( (int) (refCount / 0.75f) + 1 );
+					for( int j = 0; j < refCount; j++ )
+						references.add( in.readUTF() );
+				} else
+					references = Collections.emptySet();
+
+				values.put( key, new Entry( value, references ) );
+			}
+			return values;
+		}
+	}
+
+	private static void writeValues( DataOutputStream out, byte[] hash, Map<String, Entry> values )
+		throws IOException
+	{
+		out.writeInt( MAGIC );
+		out.writeShort( FORMAT_VERSION );
+		out.writeByte( hash.length );
+		out.write( hash );
+
+		out.writeInt( values.size() );
+		for( Map.Entry<String, Entry> e : values.entrySet() ) {
+			Object value = e.getValue().value;
+			out.writeUTF( e.getKey() );
+			if( value == null )
+				out.writeByte( TYPE_NULL );
+			else if( value instanceof Boolean ) {
+				out.writeByte( TYPE_BOOLEAN );
+				out.writeBoolean( (Boolean) value );
+			} else if( value instanceof Character ) {
+				out.writeByte( TYPE_CHARACTER );
+				out.writeChar( (Character) value );
+			} else if( value instanceof Integer ) {
+				out.writeByte( TYPE_INTEGER );
+				out.writeInt( (Integer) value );
+			} else if( value instanceof Float ) {
+				out.writeByte( TYPE_FLOAT );
+				out.writeFloat( (Float) value );
+			} else if( value instanceof String ) {
+				out.writeByte( TYPE_STRING );
+				out.writeUTF( (String) value );
+			} else if( value instanceof Color ) {
+				out.writeByte( TYPE_COLOR );
+				out.writeInt( ((Color)value).getRGB() );
+			}
+
+			Set<String> references = e.getValue().references;
+			out.writeShort( references.size() );
+			for( String ref : references )
+				out.writeUTF( ref );
+		}
+	}
+
+	//---- class Entry --------------------------------------------------------
+
+	private static class Entry
+	{
+		final Object value;
+		final Set<String> references;
+
+		Entry( Object value, Set<String> references ) {
+			this.value = value;
+			this.references = references;
+		}
+	}
+}
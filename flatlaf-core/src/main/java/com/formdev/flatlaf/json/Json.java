@@ -19,23 +19,75 @@ package com.formdev.flatlaf.json;
 import java.io.IOException;
 import java.io.Reader;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * @author Karl Tauber
  */
 public class Json
 {
+	private static final int BUFFER_SIZE = 8 * 1024;
+
+	// input buffer that is reused by subsequent parse invocations
+	private static final AtomicReference<char[]> sharedBuffer = new AtomicReference<>();
+
 	public static Object parse( Reader reader )
 		throws IOException, ParseException
 	{
 		DefaultHandler handler = new DefaultHandler();
-		new JsonParser( handler ).parse( reader );
+		parse( reader, handler );
 		return handler.getValue();
 	}
 
+	/**
+	 * Parses JSON from the given reader without building a tree of maps and lists.
+	 * Passes all values that are not objects or arrays to the given consumer.
+	 * The key is the path of all enclosing object member names, separated by dots.
+	 * Values in arrays are ignored.
+	 * <p>
+	 * E.g. <code>{"ui": {"Button": {"arc": 6}}}</code> invokes the consumer with
+	 * key {@code "ui.Button.arc"}, depth {@code 3} and value {@code "6"}.
+	 * <p>
+	 * Numbers, booleans and {@code null} are passed as strings.
+	 */
+	public static void parseFlat( Reader reader, FlatConsumer consumer )
+		throws IOException, ParseException
+	{
+		parse( reader, new FlatHandler( consumer ) );
+	}
+
+	private static void parse( Reader reader, JsonHandler<?, ?> handler )
+		throws IOException, ParseException
+	{
+		char[] buffer = sharedBuffer.getAndSet( null );
+		if( buffer == null )
+			buffer = new char[BUFFER_SIZE];
+
+		try {
+			new JsonParser( handler ).parse( reader, buffer );
+		} finally {
+			sharedBuffer.set( buffer );
+		}
+	}
+
+	//---- interface FlatConsumer ---------------------------------------------
+
+	public interface FlatConsumer
+	{
+		/**
+		 * Invoked for each value.
+		 *
+		 * @param key the member names path (e.g. {@code "ui.Button.arc"})
+		 * @param depth the number of member names in the key (e.g. {@code 3})
+		 * @param value the value
+		 */
+		void value( String key, int depth, String value );
+	}
+
 	//---- class DefaultHandler -----------------------------------------------
 
 	static class DefaultHandler
@@ -97,4 +149,78 @@ public class Json
 			return value;
 		}
 	}
+
+	//---- class FlatHandler --------------------------------------------------
+
+	private static class FlatHandler
+		extends JsonHandler<Object, Object>
+	{
+		private final FlatConsumer consumer;
+		private final StringBuilder key = new StringBuilder( 128 );
+		private int[] keyLengths = new int[16];
+		private int depth;
+		private int arrayDepth;
+
+		FlatHandler( FlatConsumer consumer ) {
+			this.consumer = consumer;
+		}
+
+		@Override
+		public Object startArray() {
+			arrayDepth++;
+			return null;
+		}
+
+		@Override
+		public void endArray( Object array ) {
+			arrayDepth--;
+		}
+
+		@Override
+		public void startObjectValue( Object object, String name ) {
+			if( arrayDepth > 0 )
+				return;
+
+			if( depth == keyLengths.length )
+				keyLengths = Arrays.copyOf( keyLengths, depth * 2 );
+			keyLengths[depth++] = key.length();
+
+			if( key.length() > 0 )
+				key.append( '.' );
+			key.append( name );
+		}
+
+		@Override
+		public void endObjectValue( Object object, String name ) {
+			if( arrayDepth > 0 )
+				return;
+
+			key.setLength( keyLengths[--depth] );
+		}
+
+		@Override
+		public void endNull() {
+			value( "null" );
+		}
+
+		@Override
+		public void endBoolean( boolean bool ) {
+			value( bool ? "true" : "false" );
+		}
+
+		@Override
+		public void endString( String string ) {
+			value( string );
+		}
+
+		@Override
+		public void endNumber( String string ) {
+			value( string );
+		}
+
+		private void value( String value ) {
+			if( depth > 0 && arrayDepth == 0 )
+				consumer.value( key.toString(), depth, value );
+		}
+	}
 }
@@ -141,8 +141,28 @@ class JsonParser {
     if (buffersize <= 0) {
       throw new IllegalArgumentException("buffersize is zero or negative");
     }
+    parse(reader, new char[buffersize]);
+  }
+
+  /**
+   * Reads the entire input from the given reader and parses it as JSON, using the given input
+   * buffer. This allows callers to reuse the buffer for multiple inputs.
+   *
+   * @param reader
+   *          the reader to read the input from
+   * @param buffer
+   *          the input buffer
+   * @throws IOException
+   *           if an I/O error occurs in the reader
+   * @throws ParseException
+   *           if the input is not valid JSON
+   */
+  void parse(Reader reader, char[] buffer) throws IOException {
+    if (reader == null) {
+      throw new NullPointerException("reader is null");
+    }
     this.reader = reader;
-    buffer = new char[buffersize];
+    this.buffer = buffer;
     bufferOffset = 0;
     index = 0;
     fill = 0;
@@ -157,6 +177,8 @@ class JsonParser {
     if (!isEndOfText()) {
       throw error("Unexpected character");
     }
+    this.reader = null;
+    this.buffer = null;
   }
 
   private void readValue() throws IOException {
@@ -346,15 +368,15 @@ class JsonParser {
         captureBuffer.append('\t');
         break;
       case 'u':
-        char[] hexChars = new char[4];
+        int ch = 0;
         for (int i = 0; i < 4; i++) {
           read();
           if (!isHexDigit()) {
             throw expected("hexadecimal digit");
           }
-          hexChars[i] = (char)current;
+          ch = (ch << 4) | Character.digit(current, 16);
         }
-        captureBuffer.append((char)Integer.parseInt(new String(hexChars), 16));
+        captureBuffer.append((char)ch);
         break;
       default:
         throw expected("valid escape sequence");
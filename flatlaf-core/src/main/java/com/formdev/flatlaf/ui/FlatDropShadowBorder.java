@@ -24,7 +24,11 @@ import java.awt.Image;
 import java.awt.Insets;
 import java.awt.RadialGradientPaint;
 import java.awt.image.BufferedImage;
+import java.lang.ref.SoftReference;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 import com.formdev.flatlaf.ui.FlatStylingSupport.Styleable;
 import com.formdev.flatlaf.ui.FlatStylingSupport.StyleableBorder;
 import com.formdev.flatlaf.util.HiDPIUtils;
@@ -90,6 +94,25 @@ public class FlatDropShadowBorder
 			Math.max( shadowInsets.top, shadowInsets.bottom ) );
 	}
 
+	/**
+	 * Returns the number of shadow images that were found in the shared cache.
+	 *
+	 * @since 3.7
+	 */
+	public static long getShadowImageCacheHits() {
+		return ShadowImageCache.hits.get();
+	}
+
+	/**
+	 * Returns the number of shadow images that were created because
+	 * they were not found in the shared cache.
+	 *
+	 * @since 3.7
+	 */
+	public static long getShadowImageCacheMisses() {
+		return ShadowImageCache.misses.get();
+	}
+
 	/** @since 2 */
 	@Override
 	public Object applyStyleProperty( String key, Object value ) {
@@ -125,7 +148,7 @@ public class FlatDropShadowBorder
 		Color shadowColor = (this.shadowColor != null) ? this.shadowColor : g.getColor();
 		int shadowSize = scale( this.shadowSize, scaleFactor );
 
-		// create and cache shadow image
+		// get shadow image from shared cache (or create it) and remember it in this border
 		float userScaleFactor = UIScale.getUserScaleFactor();
 		if( shadowImage == null ||
 			!shadowColor.equals( lastShadowColor ) ||
@@ -134,8 +157,8 @@ public class FlatDropShadowBorder
 			lastSystemScaleFactor != scaleFactor ||
 			lastUserScaleFactor != userScaleFactor )
 		{
-			shadowImage = createShadowImage( shadowColor, shadowSize, shadowOpacity,
-				(float) (scaleFactor * userScaleFactor) );
+			shadowImage = ShadowImageCache.get( shadowColor, shadowSize, shadowOpacity,
+				scaleFactor, userScaleFactor );
 			lastShadowColor = shadowColor;
 			lastShadowOpacity = shadowOpacity;
 			lastShadowSize = shadowSize;
@@ -262,4 +285,93 @@ debug*/
 
 		return image;
 	}
+
+	//---- class ShadowImageCache ---------------------------------------------
+
+	/**
+	 * Shadow images shared by all drop shadow borders (e.g. of popups and tooltips).
+	 * The number of cached images is limited and images are softly referenced,
+	 * so that they can be garbage collected if memory is low.
+	 */
+	private static class ShadowImageCache
+	{
+		private static final int MAX_SIZE = 16;
+
+		private static final Map<ShadowKey, SoftReference<BufferedImage>> cache
+			= new LinkedHashMap<ShadowKey, SoftReference<BufferedImage>>( 16, 0.75f, true )
+		{
+			@Override
+			protected boolean removeEldestEntry( Map.Entry<ShadowKey, SoftReference<BufferedImage>> eldest ) {
+				return size() > MAX_SIZE;
+			}
+		};
+
+		static final AtomicLong hits = new AtomicLong();
+		static final AtomicLong misses = new AtomicLong();
+
+		static BufferedImage get( Color shadowColor, int shadowSize, float shadowOpacity,
+			double systemScaleFactor, float userScaleFactor )
+		{
+			// alpha of shadow color is not used
+			ShadowKey key = new ShadowKey( shadowColor.getRGB() & 0xffffff, shadowSize,
+				shadowOpacity, systemScaleFactor, userScaleFactor );
+
+			synchronized( cache ) {
+				SoftReference<BufferedImage> ref = cache.get( key );
+				BufferedImage image = (ref != null) ? ref.get() : null;
+				if( image != null ) {
+					hits.incrementAndGet();
+					return image;
+				}
+			}
+
+			misses.incrementAndGet();
+			BufferedImage image = createShadowImage( shadowColor, shadowSize, shadowOpacity,
+				(float) (systemScaleFactor * userScaleFactor) );
+
+			synchronized( cache ) {
+				cache.put( key, new SoftReference<>( image ) );
+			}
+			return image;
+		}
+	}
+
+	//---- class ShadowKey ----------------------------------------------------
+
+	private static class ShadowKey
+	{
+		private final int shadowRGB;
+		private final int shadowSize;
+		private final float shadowOpacity;
+		private final double systemScaleFactor;
+		private final float userScaleFactor;
+
+		ShadowKey( int shadowRGB, int shadowSize, float shadowOpacity,
+			double systemScaleFactor, float userScaleFactor )
+		{
+			this.shadowRGB = shadowRGB;
+			this.shadowSize = shadowSize;
+			this.shadowOpacity = shadowOpacity;
+			this.systemScaleFactor = systemScaleFactor;
+			this.userScaleFactor = userScaleFactor;
+		}
+
+		@Override
+		public boolean equals( Object obj ) {
+			if( !(obj instanceof ShadowKey) )
+				return false;
+
+			ShadowKey key = (ShadowKey) obj;
+			return shadowRGB == key.shadowRGB &&
+				shadowSize == key.shadowSize &&
+				shadowOpacity == key.shadowOpacity &&
+				systemScaleFactor == key.systemScaleFactor &&
+				userScaleFactor == key.userScaleFactor;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( shadowRGB, shadowSize, shadowOpacity, systemScaleFactor, userScaleFactor );
+		}
+	}
 }
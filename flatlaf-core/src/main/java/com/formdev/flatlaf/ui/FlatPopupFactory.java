@@ -39,6 +39,7 @@ import java.awt.event.ComponentListener;
 import java.awt.event.HierarchyEvent;
 import java.awt.event.HierarchyListener;
 import java.awt.event.MouseEvent;
+import java.awt.event.MouseListener;
 import java.awt.event.WindowFocusListener;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
@@ -282,7 +283,7 @@ public class FlatPopupFactory
 	 * and corrects the y-location so that the tooltip is placed above the mouse location.
 	 */
 	private Point fixToolTipLocation( Component owner, Component contents, int x, int y ) {
-		if( !(contents instanceof JToolTip) || !wasInvokedFromToolTipManager() || hasTipLocation( owner ) )
+		if( !(contents instanceof JToolTip) || !isToolTipManagerTip( owner, (JToolTip) contents ) || hasTipLocation( owner ) )
 			return null;
 
 		PointerInfo pointerInfo = MouseInfo.getPointerInfo();
@@ -323,8 +324,22 @@ public class FlatPopupFactory
 		return new Point( x, newY );
 	}
 
-	private boolean wasInvokedFromToolTipManager() {
-		return StackUtils.wasInvokedFrom( ToolTipManager.class.getName(), "showTipWindow", 8 );
+	/**
+	 * Checks whether the tooltip is shown by ToolTipManager.
+	 * ToolTipManager.showTipWindow() creates the tooltip using
+	 * JComponent.createToolTip(), which sets the owner as tooltip component,
+	 * and the owner must be registered at ToolTipManager.
+	 */
+	private boolean isToolTipManagerTip( Component owner, JToolTip tip ) {
+		if( tip.getComponent() != owner || !(owner instanceof JComponent) )
+			return false;
+
+		ToolTipManager toolTipManager = ToolTipManager.sharedInstance();
+		for( MouseListener l : owner.getMouseListeners() ) {
+			if( l == toolTipManager )
+				return true;
+		}
+		return false;
 	}
 
 	/**
@@ -55,6 +55,8 @@ import javax.swing.plaf.basic.BasicScrollPaneUI;
 import com.formdev.flatlaf.FlatClientProperties;
 import com.formdev.flatlaf.ui.FlatStylingSupport.Styleable;
 import com.formdev.flatlaf.ui.FlatStylingSupport.StyleableUI;
+import com.formdev.flatlaf.util.Animator;
+import com.formdev.flatlaf.util.CubicBezierEasing;
 import com.formdev.flatlaf.util.HiDPIUtils;
 import com.formdev.flatlaf.util.LoggingFacade;
 import com.formdev.flatlaf.util.UIScale;
@@ -73,6 +75,7 @@ import com.formdev.flatlaf.util.UIScale;
  * <!-- FlatScrollPaneUI -->
  *
  * @uiDefault ScrollPane.smoothScrolling		boolean
+ * @uiDefault ScrollPane.animatedScrolling	boolean
  *
  * @author Karl Tauber
  */
@@ -85,6 +88,15 @@ public class FlatScrollPaneUI
 
 	private Handler handler;
 
+	// animated scrolling
+	private Animator scrollAnimator;
+	private JScrollBar animatedScrollBar;
+	private JViewport animatedViewport;
+	private int oldScrollMode;
+	private int animationStartValue;
+	private int animationTargetValue;
+	private int animationLastValue;
+
 	private Map<String, Object> oldStyleValues;
 	private AtomicBoolean borderShared;
 
@@ -119,6 +131,12 @@ public class FlatScrollPaneUI
 
 	@Override
 	public void uninstallUI( JComponent c ) {
+		if( scrollAnimator != null ) {
+			scrollAnimator.cancel();
+			scrollAnimationEnded();
+			scrollAnimator = null;
+		}
+
 		MigLayoutVisualPadding.uninstall( scrollpane );
 
 		// uninstall layout manager
@@ -162,7 +180,7 @@ public class FlatScrollPaneUI
 				scrollpane.isWheelScrollingEnabled() &&
 				e.getScrollType() == MouseWheelEvent.WHEEL_UNIT_SCROLL &&
 				e.getPreciseWheelRotation() != 0 &&
-				e.getPreciseWheelRotation() != e.getWheelRotation() )
+				(e.getPreciseWheelRotation() != e.getWheelRotation() || isAnimatedScrollingEnabled()) )
 			{
 				mouseWheelMovedSmooth( e );
 			} else
@@ -181,6 +199,23 @@ public class FlatScrollPaneUI
 		return UIManager.getBoolean( "ScrollPane.smoothScrolling" );
 	}
 
+	/**
+	 * Returns whether scrolling with the mouse wheel or trackpad is animated.
+	 * Requires that smooth scrolling is enabled.
+	 *
+	 * @since 3.7
+	 */
+	protected boolean isAnimatedScrollingEnabled() {
+		if( !Animator.useAnimation() )
+			return false;
+
+		Object animatedScrolling = scrollpane.getClientProperty( FlatClientProperties.SCROLL_PANE_ANIMATED_SCROLLING );
+		if( animatedScrolling instanceof Boolean )
+			return (Boolean) animatedScrolling;
+
+		return UIManager.getBoolean( "ScrollPane.animatedScrolling" );
+	}
+
 	private void mouseWheelMovedSmooth( MouseWheelEvent e ) {
 		// return if there is no viewport
 		JViewport viewport = scrollpane.getViewport();
@@ -259,13 +294,17 @@ public class FlatScrollPaneUI
 		}
 
 		// compute new value
-		int value = scrollbar.getValue();
+		// (if animation is running, add delta to target value to coalesce wheel events)
+		boolean animated = isAnimatedScrollingEnabled();
+		int value = (animated && animatedScrollBar == scrollbar) ? animationTargetValue : scrollbar.getValue();
 		int minValue = scrollbar.getMinimum();
 		int maxValue = scrollbar.getMaximum() - scrollbar.getModel().getExtent();
 		int newValue = Math.max( minValue, Math.min( value + idelta, maxValue ) );
 
 		// set new value
-		if( newValue != value )
+		if( animated )
+			setValueAnimated( scrollbar, newValue );
+		else if( newValue != value )
 			scrollbar.setValue( newValue );
 
 /*debug
@@ -286,6 +325,86 @@ public class FlatScrollPaneUI
 */
 	}
 
+	/**
+	 * Scrolls to the given value using an animation that decelerates.
+	 * If an animation is already running, it continues (from the current value)
+	 * to the new target value.
+	 * <p>
+	 * Scroll bar values are changed only in animation timing events,
+	 * which coalesces fast sequences of wheel or trackpad events.
+	 * The viewport uses {@link JViewport#BLIT_SCROLL_MODE} while the animation is running,
+	 * so that views (e.g. large tables or lists) need to repaint only the newly exposed area.
+	 *
+	 * @since 3.7
+	 */
+	protected void setValueAnimated( JScrollBar scrollbar, int value ) {
+		// finish animation of other scroll bar (e.g. shift key pressed while scrolling)
+		if( animatedScrollBar != null && animatedScrollBar != scrollbar ) {
+			animatedScrollBar.setValue( animationTargetValue );
+			scrollAnimator.stop();
+		}
+
+		if( animatedScrollBar != null ) {
+			if( value == animationTargetValue )
+				return;
+		} else {
+			if( value == scrollbar.getValue() )
+				return;
+
+			// use blit scroll mode for intermediate frames
+			animatedViewport = scrollpane.getViewport();
+			if( animatedViewport != null ) {
+				oldScrollMode = animatedViewport.getScrollMode();
+				animatedViewport.setScrollMode( JViewport.BLIT_SCROLL_MODE );
+			}
+			animatedScrollBar = scrollbar;
+			animationLastValue = scrollbar.getValue();
+		}
+
+		// start at current value
+		animationStartValue = animationLastValue;
+		animationTargetValue = value;
+
+		// create animator
+		if( scrollAnimator == null ) {
+			int duration = 200;
+			int resolution = 10;
+
+			scrollAnimator = new Animator( duration, fraction -> {
+				JScrollBar sb = animatedScrollBar;
+				if( sb == null )
+					return;
+
+				// stop if not showing or if value was changed elsewhere
+				// (e.g. dragging scroll bar thumb or using keyboard)
+				if( !scrollpane.isShowing() || sb.getValue() != animationLastValue ) {
+					scrollAnimator.stop();
+					return;
+				}
+
+				int newValue = animationStartValue + Math.round( (animationTargetValue - animationStartValue) * fraction );
+				if( newValue != animationLastValue ) {
+					sb.setValue( newValue );
+					animationLastValue = sb.getValue();
+				}
+			}, this::scrollAnimationEnded );
+
+			scrollAnimator.setResolution( resolution );
+			scrollAnimator.setInterpolator( new CubicBezierEasing( 0.25f, 1f, 0.5f, 1f ) );
+		}
+
+		// restart animator
+		scrollAnimator.restart();
+	}
+
+	private void scrollAnimationEnded() {
+		if( animatedViewport != null ) {
+			animatedViewport.setScrollMode( oldScrollMode );
+			animatedViewport = null;
+		}
+		animatedScrollBar = null;
+	}
+
 	@Override
 	protected PropertyChangeListener createPropertyChangeListener() {
 		PropertyChangeListener superListener = super.createPropertyChangeListener();
@@ -22,18 +22,21 @@ import java.lang.annotation.Repeatable;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiFunction;
-import java.util.function.Predicate;
 import javax.swing.Icon;
 import javax.swing.JComponent;
 import javax.swing.UIManager;
@@ -205,9 +208,18 @@ public class FlatStylingSupport
 	private static Object getStyleForClass( String styleClass, String type )
 		throws IllegalArgumentException
 	{
-		return joinStyles(
+		// class names and types do not contain space characters
+		String cacheKey = type + ' ' + styleClass;
+		Object style = StyleCache.getClassStyle( cacheKey );
+		if( style != null )
+			return (style != StyleCache.NULL_STYLE) ? style : null;
+
+		style = joinStyles(
 			UIManager.get( "[style]." + styleClass ),
 			UIManager.get( "[style]" + type + '.' + styleClass ) );
+
+		StyleCache.putClassStyle( cacheKey, style );
+		return style;
 	}
 
 	/**
@@ -238,14 +250,14 @@ public class FlatStylingSupport
 
 		// convert first style to map
 		Map<String, Object> map1 = (style1 instanceof String)
-			? parse( (String) style1 )
+			? parseCached( (String) style1 )
 			: (Map<String, Object>) style1;
 		if( map1 == null )
 			return style2;
 
 		// convert second style to map
 		Map<String, Object> map2 = (style2 instanceof String)
-			? parse( (String) style2 )
+			? parseCached( (String) style2 )
 			: (Map<String, Object>) style2;
 		if( map2 == null )
 			return style1;
@@ -275,6 +287,9 @@ public class FlatStylingSupport
 	 * Parses styles in CSS syntax ("key1: value1; key2: value2; ..."),
 	 * converts the value strings into binary and invokes the given function
 	 * to apply the properties.
+	 * <p>
+	 * Parsed styles are cached, so the same binary values (e.g. {@link java.awt.Insets})
+	 * are passed to all components that use the same style and must not be modified.
 	 *
 	 * @param oldStyleValues map of old values modified by the previous invocation, or {@code null}
 	 * @param style the style in CSS syntax as string, or a Map, or {@code null}
@@ -307,7 +322,7 @@ public class FlatStylingSupport
 			if( StringUtils.isTrimmedEmpty( str ) )
 				return null;
 
-			return applyStyle( parse( str ), applyProperty );
+			return applyStyle( parseCached( str ), applyProperty );
 		} else if( style instanceof Map ) {
 			// handle style of type Map
 			@SuppressWarnings( "unchecked" )
@@ -353,6 +368,12 @@ public class FlatStylingSupport
 	/**
 	 * Parses styles in CSS syntax ("key1: value1; key2: value2; ..."),
 	 * converts the value strings into binary and returns all key/value pairs as map.
+	 * <p>
+	 * Parsed styles are cached (until the look and feel or UI defaults change).
+	 * The returned map is a copy and may be modified by the caller.
+	 * However, the values in the map (e.g. {@link java.awt.Insets} or {@link java.awt.Dimension})
+	 * are shared with the cache and with all components that use the same style
+	 * and must not be modified.
 	 *
 	 * @param style the style in CSS syntax, or {@code null}
 	 * @return map of parsed styles, or {@code null}
@@ -360,10 +381,52 @@ public class FlatStylingSupport
 	 */
 	public static Map<String, Object> parse( String style )
 		throws IllegalArgumentException
+	{
+		Map<String, Object> map = parseCached( style );
+		return (map != null) ? new LinkedHashMap<>( map ) : null;
+	}
+
+	/**
+	 * Same as {@link #parse(String)}, but returns the shared (immutable) cached map.
+	 * Values are shared between all components that use the same style string.
+	 */
+	private static Map<String, Object> parseCached( String style )
+		throws IllegalArgumentException
 	{
 		if( style == null || StringUtils.isTrimmedEmpty( style ) )
 			return null;
 
+		Map<String, Object> map = StyleCache.getParsedStyle( style );
+		if( map != null )
+			return (map != StyleCache.EMPTY_STYLE) ? map : null;
+
+		// cached map is shared --> make it immutable
+		map = parse0( style );
+		if( map != null )
+			map = Collections.unmodifiableMap( map );
+
+		StyleCache.putParsedStyle( style, (map != null) ? map : StyleCache.EMPTY_STYLE );
+		return map;
+	}
+
+	/**
+	 * Clears the cache of parsed styles and style class rules.
+	 * <p>
+	 * The cache is cleared automatically when the look and feel changes,
+	 * when UI defaults are modified using {@link UIManager#put(Object, Object)}
+	 * or when FlatLaf updates its UI defaults.
+	 * Invoke this method only if you modify the look and feel defaults
+	 * ({@link UIManager#getLookAndFeelDefaults()}) directly.
+	 *
+	 * @since 3.7
+	 */
+	public static void clearStyleCache() {
+		StyleCache.clear();
+	}
+
+	private static Map<String, Object> parse0( String style )
+		throws IllegalArgumentException
+	{
 		Map<String, Object> map = null;
 
 		// split style into parts and process them
@@ -419,13 +482,45 @@ public class FlatStylingSupport
 	 */
 	public static Object applyToAnnotatedObject( Object obj, String key, Object value )
 		throws UnknownStyleException, IllegalArgumentException
+	{
+		return StyleableClassInfo.get( obj.getClass() ).getFieldAccessor( obj, key ).apply( obj, value );
+	}
+
+	/**
+	 * Searches for a field annotated with {@link Styleable} (in given class or superclasses),
+	 * or for a field specified in {@link StyleableField} annotation.
+	 *
+	 * @return accessor for the field, or {@code null} if not found
+	 */
+	private static FieldAccessor findAnnotatedField( Object obj, String key )
+		throws IllegalArgumentException
 	{
 		String fieldName = keyToFieldName( key );
+		Class<?> cls = obj.getClass();
+
+		for(;;) {
+			try {
+				Field f = cls.getDeclaredField( fieldName );
+				Styleable styleable = f.getAnnotation( Styleable.class );
+				if( styleable != null && styleable.dot() == (fieldName != key) )
+					return new FieldAccessor( f, obj, false );
+			} catch( NoSuchFieldException ex ) {
+				// field not found in class --> try superclass
+			}
+
+			for( StyleableField styleableField : cls.getAnnotationsByType( StyleableField.class ) ) {
+				if( key.equals( styleableField.key() ) )
+					return new FieldAccessor( getStyleableField( styleableField ), obj, true );
+			}
+
+			cls = cls.getSuperclass();
+			if( cls == null )
+				return null;
 
-		return applyToField( obj, fieldName, key, value, field -> {
-			Styleable styleable = field.getAnnotation( Styleable.class );
-			return styleable != null && styleable.dot() == (fieldName != key);
-		} );
+			String superclassName = cls.getName();
+			if( superclassName.startsWith( "java." ) || superclassName.startsWith( "javax." ) )
+				return null;
+		}
 	}
 
 	private static String keyToFieldName( String key ) {
@@ -452,20 +547,13 @@ public class FlatStylingSupport
 	 */
 	static Object applyToField( Object obj, String fieldName, String key, Object value )
 		throws UnknownStyleException, IllegalArgumentException
-	{
-		return applyToField( obj, fieldName, key, value, null );
-	}
-
-	private static Object applyToField( Object obj, String fieldName, String key, Object value, Predicate<Field> predicate )
-		throws UnknownStyleException, IllegalArgumentException
 	{
 		Class<?> cls = obj.getClass();
 
 		for(;;) {
 			try {
 				Field f = cls.getDeclaredField( fieldName );
-				if( predicate == null || predicate.test( f ) )
-					return applyToField( f, obj, value, false );
+				return applyToField( f, obj, value, false );
 			} catch( NoSuchFieldException ex ) {
 				// field not found in class --> try superclass
 			}
@@ -478,12 +566,6 @@ public class FlatStylingSupport
 			cls = cls.getSuperclass();
 			if( cls == null )
 				throw new UnknownStyleException( key );
-
-			if( predicate != null ) {
-				String superclassName = cls.getName();
-				if( superclassName.startsWith( "java." ) || superclassName.startsWith( "javax." ) )
-					throw new UnknownStyleException( key );
-			}
 		}
 	}
 
@@ -588,26 +670,37 @@ public class FlatStylingSupport
 	private static Object applyToProperty( Object obj, String name, Object value )
 		throws UnknownStyleException, IllegalArgumentException
 	{
-		Class<?> cls = obj.getClass();
-		String getterName = buildMethodName( "get", name );
-		String setterName = buildMethodName( "set", name );
+		Method[] methods = StyleableClassInfo.get( obj.getClass() ).getPropertyMethods( name );
+		Method getter = methods[0];
+		Method setter = methods[1];
 
+		try {
+			Object oldValue = getter.invoke( obj );
+			setter.invoke( obj, convertToEnum( value, getter.getReturnType() ) );
+			return oldValue;
+		} catch( Exception ex ) {
+			throw new IllegalArgumentException( "failed to invoke property methods '" + obj.getClass().getName() + "."
+				+ getter.getName() + "()' or '" + setter.getName() + "(...)'", ex );
+		}
+	}
+
+	/**
+	 * Searches for public property getter and setter methods.
+	 *
+	 * @return array with getter and setter, or {@code null} if not found
+	 */
+	private static Method[] findPropertyMethods( Class<?> cls, String name ) {
 		try {
 			Method getter;
 			try {
-				getter = cls.getMethod( getterName );
+				getter = cls.getMethod( buildMethodName( "get", name ) );
 			} catch( NoSuchMethodException ex ) {
 				getter = cls.getMethod( buildMethodName( "is", name ) );
 			}
-			Method setter = cls.getMethod( setterName, getter.getReturnType() );
-			Object oldValue = getter.invoke( obj );
-			setter.invoke( obj, convertToEnum( value, getter.getReturnType() ) );
-			return oldValue;
+			Method setter = cls.getMethod( buildMethodName( "set", name ), getter.getReturnType() );
+			return new Method[] { getter, setter };
 		} catch( NoSuchMethodException ex ) {
-			throw new UnknownStyleException( name );
-		} catch( Exception ex ) {
-			throw new IllegalArgumentException( "failed to invoke property methods '" + cls.getName() + "."
-				+ getterName + "()' or '" + setterName + "(...)'", ex );
+			return null;
 		}
 	}
 
@@ -764,9 +857,14 @@ public class FlatStylingSupport
 	 */
 	public static void collectAnnotatedStyleableInfos( Object obj, Map<String, Class<?>> infos )
 		throws IllegalArgumentException
+	{
+		infos.putAll( StyleableClassInfo.get( obj.getClass() ).getStyleableInfos() );
+	}
+
+	private static void collectAnnotatedStyleableInfos( Class<?> cls, Map<String, Class<?>> infos )
+		throws IllegalArgumentException
 	{
 		HashSet<String> processedFields = new HashSet<>();
-		Class<?> cls = obj.getClass();
 
 		for(;;) {
 			// find fields annotated with 'Styleable'
@@ -890,6 +988,245 @@ public class FlatStylingSupport
 		return getAnnotatedStyleableValue( obj, key );
 	}
 
+	//---- class StyleableClassInfo -------------------------------------------
+
+	/**
+	 * Per-class registry of styleable fields and properties.
+	 * Style keys are resolved (on first use) only once per class into accessors,
+	 * so that applying a style property is a hash map lookup plus a direct field access.
+	 */
+	private static class StyleableClassInfo
+	{
+		private static final ClassValue<StyleableClassInfo> infos = new ClassValue<StyleableClassInfo>() {
+			@Override
+			protected StyleableClassInfo computeValue( Class<?> type ) {
+				return new StyleableClassInfo( type );
+			}
+		};
+
+		private static final Object UNKNOWN = new Object();
+
+		private final Class<?> cls;
+
+		/** key --> FieldAccessor or UNKNOWN */
+		private final Map<String, Object> fieldAccessors = new ConcurrentHashMap<>();
+		/** property name --> Method[] { getter, setter } or UNKNOWN */
+		private final Map<String, Object> propertyMethods = new ConcurrentHashMap<>();
+		private volatile Map<String, Class<?>> styleableInfos;
+
+		static StyleableClassInfo get( Class<?> cls ) {
+			return infos.get( cls );
+		}
+
+		private StyleableClassInfo( Class<?> cls ) {
+			this.cls = cls;
+		}
+
+		FieldAccessor getFieldAccessor( Object obj, String key )
+			throws UnknownStyleException, IllegalArgumentException
+		{
+			Object accessor = fieldAccessors.get( key );
+			if( accessor == null ) {
+				accessor = findAnnotatedField( obj, key );
+				if( accessor == null )
+					accessor = UNKNOWN;
+				fieldAccessors.put( key, accessor );
+			}
+
+			if( accessor == UNKNOWN )
+				throw new UnknownStyleException( key );
+			return (FieldAccessor) accessor;
+		}
+
+		Method[] getPropertyMethods( String name )
+			throws UnknownStyleException
+		{
+			Object methods = propertyMethods.get( name );
+			if( methods == null ) {
+				methods = findPropertyMethods( cls, name );
+				if( methods == null )
+					methods = UNKNOWN;
+				propertyMethods.put( name, methods );
+			}
+
+			if( methods == UNKNOWN )
+				throw new UnknownStyleException( name );
+			return (Method[]) methods;
+		}
+
+		Map<String, Class<?>> getStyleableInfos()
+			throws IllegalArgumentException
+		{
+			Map<String, Class<?>> styleableInfos = this.styleableInfos;
+			if( styleableInfos == null ) {
+				Map<String, Class<?>> infos = new LinkedHashMap<>();
+				collectAnnotatedStyleableInfos( cls, infos );
+				this.styleableInfos = styleableInfos = Collections.unmodifiableMap( infos );
+			}
+			return styleableInfos;
+		}
+	}
+
+	//---- class FieldAccessor ------------------------------------------------
+
+	/**
+	 * Gets and sets the value of a field using method handles,
+	 * which are created only once per field.
+	 */
+	private static class FieldAccessor
+	{
+		private static final MethodType GETTER_TYPE = MethodType.methodType( Object.class, Object.class );
+		private static final MethodType SETTER_TYPE = MethodType.methodType( void.class, Object.class, Object.class );
+
+		private final Field field;
+		private final MethodHandle getter;
+		private final MethodHandle setter;
+
+		FieldAccessor( Field f, Object obj, boolean useMethodHandles )
+			throws IllegalArgumentException
+		{
+			checkValidField( f );
+
+			MethodHandles.Lookup lookup;
+			if( useMethodHandles && obj instanceof StyleableLookupProvider ) {
+				// use method handles to access protected fields in JRE in modular applications
+				lookup = ((StyleableLookupProvider)obj).getLookupForStyling();
+			} else {
+				// necessary to access protected fields in other packages
+				f.setAccessible( true );
+				lookup = MethodHandles.lookup();
+			}
+
+			try {
+				field = f;
+				getter = lookup.unreflectGetter( f ).asType( GETTER_TYPE );
+				setter = lookup.unreflectSetter( f ).asType( SETTER_TYPE );
+			} catch( IllegalAccessException ex ) {
+				throw newFieldAccessFailed( f, ex );
+			}
+		}
+
+		Object apply( Object obj, Object value )
+			throws IllegalArgumentException
+		{
+			value = convertToEnum( value, field.getType() );
+
+			try {
+				// get old value and set new value
+				Object oldValue = (Object) getter.invokeExact( obj );
+				setter.invokeExact( obj, value );
+				return oldValue;
+			} catch( ClassCastException | NullPointerException ex ) {
+				throw new IllegalArgumentException( "can not set field '" + field.getDeclaringClass().getName()
+					+ "." + field.getName() + "' of type " + field.getType().getName() + " to value '" + value + "'", ex );
+			} catch( Throwable ex ) {
+				throw newFieldAccessFailed( field, ex );
+			}
+		}
+	}
+
+	//---- class StyleCache ---------------------------------------------------
+
+	/**
+	 * Bounded LRU caches for parsed styles (key is style string)
+	 * and for style class rules (key is type and style class).
+	 * <p>
+	 * Parsed values may depend on UI defaults (references and variables),
+	 * so the caches are cleared when the look and feel changes or UI defaults are modified.
+	 */
+	private static class StyleCache
+	{
+		private static final int MAX_SIZE = 1000;
+
+		static final Map<String, Object> EMPTY_STYLE = Collections.emptyMap();
+		static final Object NULL_STYLE = new Object();
+
+		private static final Map<String, Map<String, Object>> parsedStyles = new LruMap<>();
+		private static final Map<String, Object> classStyles = new LruMap<>();
+
+		static {
+			// clear caches if look and feel changes
+			UIManager.addPropertyChangeListener( e -> {
+				if( "lookAndFeel".equals( e.getPropertyName() ) )
+					clear();
+			} );
+
+			// clear caches if UI defaults are modified using UIManager.put()
+			UIManager.getDefaults().addPropertyChangeListener( e -> clear() );
+		}
+
+		/**
+		 * Shared UIs are disabled while UI defaults getters are registered
+		 * (e.g. in FlatLaf.runWithUIDefaultsGetter()), which may return other values.
+		 * Do not use caches in this case.
+		 */
+		private static boolean isEnabled() {
+			return FlatUIUtils.isUseSharedUIs();
+		}
+
+		static Map<String, Object> getParsedStyle( String style ) {
+			if( !isEnabled() )
+				return null;
+
+			synchronized( parsedStyles ) {
+				return parsedStyles.get( style );
+			}
+		}
+
+		static void putParsedStyle( String style, Map<String, Object> map ) {
+			if( !isEnabled() )
+				return;
+
+			synchronized( parsedStyles ) {
+				parsedStyles.put( style, map );
+			}
+		}
+
+		static Object getClassStyle( String key ) {
+			if( !isEnabled() )
+				return null;
+
+			synchronized( classStyles ) {
+				return classStyles.get( key );
+			}
+		}
+
+		static void putClassStyle( String key, Object style ) {
+			if( !isEnabled() )
+				return;
+
+			synchronized( classStyles ) {
+				classStyles.put( key, (style != null) ? style : NULL_STYLE );
+			}
+		}
+
+		static void clear() {
+			synchronized( parsedStyles ) {
+				parsedStyles.clear();
+			}
+			synchronized( classStyles ) {
+				classStyles.clear();
+			}
+		}
+
+		//---- class LruMap ---------------------------------------------------
+
+		private static class LruMap<K,V>
+			extends LinkedHashMap<K,V>
+		{
+			private static final long serialVersionUID = 1;
+
+			LruMap() {
+				super( 64, 0.75f, true );
+			}
+
+			@Override
+			protected boolean removeEldestEntry( Map.Entry<K,V> eldest ) {
+				return size() > MAX_SIZE;
+			}
+		}
+	}
+
 	//---- class UnknownStyleException ----------------------------------------
 
 	public static class UnknownStyleException
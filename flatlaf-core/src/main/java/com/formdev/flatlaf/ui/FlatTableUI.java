@@ -60,6 +60,7 @@ import javax.swing.plaf.basic.BasicTableUI;
 import javax.swing.table.DefaultTableCellRenderer;
 import javax.swing.table.JTableHeader;
 import javax.swing.table.TableCellRenderer;
+import javax.swing.table.TableColumn;
 import javax.swing.table.TableColumnModel;
 import com.formdev.flatlaf.FlatClientProperties;
 import com.formdev.flatlaf.icons.FlatCheckBoxIcon;
@@ -68,7 +69,6 @@ import com.formdev.flatlaf.ui.FlatStylingSupport.StyleableUI;
 import com.formdev.flatlaf.util.Graphics2DProxy;
 import com.formdev.flatlaf.util.HiDPIUtils;
 import com.formdev.flatlaf.util.LoggingFacade;
-import com.formdev.flatlaf.util.SystemInfo;
 import com.formdev.flatlaf.util.UIScale;
 
 /**
@@ -449,94 +449,123 @@ public class FlatTableUI
 
 	@Override
 	public void paint( Graphics g, JComponent c ) {
-		FlatTableHeaderUI.fixDraggedAndResizingColumns( table.getTableHeader() );
+		JTableHeader header = table.getTableHeader();
+		FlatTableHeaderUI.fixDraggedAndResizingColumns( header );
 
 		boolean horizontalLines = table.getShowHorizontalLines();
 		boolean verticalLines = table.getShowVerticalLines();
-		if( horizontalLines || verticalLines ) {
-			// fix grid painting issues in BasicTableUI
+		Color gridColor = table.getGridColor();
+		if( (horizontalLines || verticalLines) && gridColor != null ) {
+			// FlatLaf paints grid lines itself to fix grid painting issues in BasicTableUI
 			//   - do not paint last vertical grid line if line is on right edge of scroll pane
 			//   - fix unstable grid line thickness when scaled at 125%, 150%, 175%, 225%, ...
 			//     which paints either 1px or 2px lines depending on location
 			//   - on Java 9+, fix wrong grid line thickness in dragged column
+			Graphics2D g2 = (Graphics2D) g;
+			paintGrid( g2 );
 
-			boolean hideLastVerticalLine = hideLastVerticalLine();
-			int tableWidth = table.getWidth();
-			JTableHeader header = table.getTableHeader();
-			boolean isDragging = (header != null && header.getDraggedColumn() != null);
-
-			double systemScaleFactor = UIScale.getSystemScaleFactor( (Graphics2D) g );
-			double lineThickness = (1. / systemScaleFactor) * (int) systemScaleFactor;
-			double lineOffset = (1. - lineThickness) + 0.05; // adding 0.05 to fix line location in some cases
-
-			// Java 8 uses drawLine() to paint grid lines
-			// Java 9+ uses fillRect() to paint grid lines (except for dragged column)
-			g = new Graphics2DProxy( (Graphics2D) g ) {
-				@Override
-				public void drawLine( int x1, int y1, int x2, int y2 ) {
-					// do not paint last vertical line
-					if( hideLastVerticalLine && verticalLines &&
-						x1 == x2 && y1 == 0 && x1 == tableWidth - 1 &&
-						wasInvokedFromPaintGrid() )
-					  return;
-
-					// on Java 9+, fix wrong grid line thickness in dragged column
-					if( isDragging &&
-						SystemInfo.isJava_9_orLater &&
-						((horizontalLines && y1 == y2) || (verticalLines && x1 == x2)) &&
-						wasInvokedFromMethod( "paintDraggedArea" ) )
-					{
-						if( y1 == y2 ) {
-							// horizontal grid line
-							super.fill( new Rectangle2D.Double( x1, y1, x2 - x1 + 1, lineThickness ) );
-						} else if( x1 == x2 ) {
-							// vertical grid line
-							super.fill( new Rectangle2D.Double( x1, y1, lineThickness, y2 - y1 + 1 ) );
-						}
-						return;
-					}
+			// suppress grid lines painted by BasicTableUI.paintGrid() and fix grid lines
+			// painted by BasicTableUI.paintDraggedArea()
+			g = new GridGraphics( g2, gridColor, header );
+		}
 
-					super.drawLine( x1, y1, x2, y2 );
-				}
+		// rounded selection or selection insets
+		if( selectionArc > 0 || (selectionInsets != null && !FlatUIUtils.isInsetsEmpty( selectionInsets )) )
+			g = new RoundedSelectionGraphics( g, UIManager.getColor( "Table.alternateRowColor" ) );
 
-				@Override
-				public void fillRect( int x, int y, int width, int height ) {
-					// do not paint last vertical line
-					if( hideLastVerticalLine && verticalLines &&
-						width == 1 && y == 0 && x == tableWidth - 1 &&
-						wasInvokedFromPaintGrid() )
-					  return;
-
-					// reduce line thickness to avoid unstable painted line thickness
-					if( lineThickness != 1 ) {
-						if( horizontalLines && height == 1 && wasInvokedFromPaintGrid() ) {
-							super.fill( new Rectangle2D.Double( x, y + lineOffset, width, lineThickness ) );
-							return;
-						}
-						if( verticalLines && width == 1 && y == 0 && wasInvokedFromPaintGrid() ) {
-							super.fill( new Rectangle2D.Double( x + lineOffset, y, lineThickness, height ) );
-							return;
-						}
-					}
+		super.paint( g, c );
+	}
 
-					super.fillRect( x, y, width, height );
-				}
+	/**
+	 * Paints the grid lines of the rows and columns within the clip bounds.
+	 * Replaces grid painting of {@link BasicTableUI}, which is suppressed.
+	 * Does not paint the last vertical line if it is on the right edge
+	 * of the scroll pane (see {@link #hideLastVerticalLine()}).
+	 *
+	 * @since 3.7
+	 */
+	protected void paintGrid( Graphics2D g ) {
+		int rowCount = table.getRowCount();
+		int columnCount = table.getColumnCount();
+		Rectangle visibleBounds = new Rectangle( table.getWidth(), table.getHeight() );
+		Rectangle clip = g.getClipBounds();
+		if( clip != null )
+			visibleBounds = visibleBounds.intersection( clip );
+		if( rowCount <= 0 || columnCount <= 0 || visibleBounds.isEmpty() )
+			return;
 
-				private boolean wasInvokedFromPaintGrid() {
-					return wasInvokedFromMethod( "paintGrid" );
-				}
+		// compute rows and columns to paint (same as in BasicTableUI.paint())
+		boolean ltr = table.getComponentOrientation().isLeftToRight();
+		Point upperLeft = visibleBounds.getLocation();
+		Point lowerRight = new Point( visibleBounds.x + visibleBounds.width - 1,
+			visibleBounds.y + visibleBounds.height - 1 );
+		int rMin = table.rowAtPoint( upperLeft );
+		int rMax = table.rowAtPoint( lowerRight );
+		int cMin = table.columnAtPoint( ltr ? upperLeft : lowerRight );
+		int cMax = table.columnAtPoint( ltr ? lowerRight : upperLeft );
+		if( rMin == -1 )
+			rMin = 0;
+		if( rMax == -1 )
+			rMax = rowCount - 1;
+		if( cMin == -1 )
+			cMin = 0;
+		if( cMax == -1 )
+			cMax = columnCount - 1;
+
+		Rectangle minCell = table.getCellRect( rMin, cMin, true );
+		Rectangle maxCell = table.getCellRect( rMax, cMax, true );
+		Rectangle damagedArea = minCell.union( maxCell );
+		double[] line = gridLineThicknessAndOffset( g );
+
+		g.setColor( table.getGridColor() );
+
+		if( table.getShowHorizontalLines() ) {
+			int y = damagedArea.y;
+			for( int row = rMin; row <= rMax; row++ ) {
+				y += table.getRowHeight( row );
+				fillHorizontalGridLine( g, damagedArea.x, y - 1, damagedArea.width, line );
+			}
+		}
 
-				private boolean wasInvokedFromMethod( String methodName ) {
-					return StackUtils.wasInvokedFrom( BasicTableUI.class.getName(), methodName, 8 );
-				}
-			};
+		if( table.getShowVerticalLines() ) {
+			TableColumnModel cm = table.getColumnModel();
+			int tableHeight = damagedArea.y + damagedArea.height;
+			int hiddenX = hideLastVerticalLine() ? table.getWidth() - 1 : Integer.MIN_VALUE;
+			int x = damagedArea.x;
+			for( int i = cMin; i <= cMax; i++ ) {
+				// in right-to-left, columns are painted from cMax to cMin
+				int column = ltr ? i : cMax - (i - cMin);
+				x += cm.getColumn( column ).getWidth();
+				if( x - 1 != hiddenX )
+					fillVerticalGridLine( g, x - 1, 0, tableHeight, line );
+			}
 		}
+	}
 
-		// rounded selection or selection insets
-		if( selectionArc > 0 || (selectionInsets != null && !FlatUIUtils.isInsetsEmpty( selectionInsets )) )
-			g = new RoundedSelectionGraphics( g, UIManager.getColor( "Table.alternateRowColor" ) );
+	/**
+	 * Returns line thickness and offset used to paint grid lines.
+	 * Line thickness is reduced at fractional scale factors (e.g. 125% or 150%)
+	 * to avoid unstable painted line thickness (either 1px or 2px depending on location).
+	 */
+	private static double[] gridLineThicknessAndOffset( Graphics2D g ) {
+		double systemScaleFactor = UIScale.getSystemScaleFactor( g );
+		double lineThickness = (1. / systemScaleFactor) * (int) systemScaleFactor;
+		double lineOffset = (1. - lineThickness) + 0.05; // adding 0.05 to fix line location in some cases
+		return new double[] { lineThickness, lineOffset };
+	}
 
-		super.paint( g, c );
+	private static void fillHorizontalGridLine( Graphics2D g, int x, int y, int width, double[] line ) {
+		if( line[0] != 1 )
+			g.fill( new Rectangle2D.Double( x, y + line[1], width, line[0] ) );
+		else
+			g.fillRect( x, y, width, 1 );
+	}
+
+	private static void fillVerticalGridLine( Graphics2D g, int x, int y, int height, double[] line ) {
+		if( line[0] != 1 )
+			g.fill( new Rectangle2D.Double( x + line[1], y, line[0], height ) );
+		else
+			g.fillRect( x, y, 1, height );
 	}
 
 	protected boolean hideLastVerticalLine() {
@@ -794,6 +823,154 @@ public class FlatTableUI
 		table.repaint( firstRect.union( lastRect ) );
 	}
 
+	//---- class GridGraphics -------------------------------------------------
+
+	/**
+	 * A graphics proxy used for painting in {@link BasicTableUI#paint(Graphics, JComponent)}
+	 * that suppresses grid lines painted by BasicTableUI.paintGrid()
+	 * (which are painted by {@link #paintGrid(Graphics2D)})
+	 * and fixes thickness of grid lines painted by BasicTableUI.paintDraggedArea().
+	 * <p>
+	 * Grid lines are identified by grid color (which BasicTableUI sets before painting
+	 * grid lines) and by their exact geometry (on row and column boundaries).
+	 * Cell renderers are not affected because they paint to graphics created with create().
+	 * <p>
+	 * Java 8 uses drawLine() to paint grid lines.
+	 * Java 9+ uses fillRect() to paint grid lines (except for dragged column).
+	 */
+	private class GridGraphics
+		extends Graphics2DProxy
+	{
+		private final Graphics2D g2;
+		private final Color gridColor;
+		private final double[] line;
+		private final Point pt = new Point();
+
+		// bounds of dragged column (if dragging), which BasicTableUI.paintDraggedArea()
+		// fills with table background before painting grid lines
+		private final int draggedX;
+		private final int draggedWidth;
+		private boolean inDraggedArea;
+		private int draggedY;
+		private int draggedHeight;
+
+		GridGraphics( Graphics2D g2, Color gridColor, JTableHeader header ) {
+			super( g2 );
+			this.g2 = g2;
+			this.gridColor = gridColor;
+			this.line = gridLineThicknessAndOffset( g2 );
+
+			int draggedColumn = (header != null && header.getDraggedColumn() != null)
+				? viewIndexForColumn( header.getDraggedColumn() )
+				: -1;
+			if( draggedColumn >= 0 ) {
+				Rectangle r = table.getCellRect( 0, draggedColumn, true );
+				draggedX = r.x + header.getDraggedDistance();
+				draggedWidth = r.width;
+			} else {
+				draggedX = 0;
+				draggedWidth = -1;
+			}
+		}
+
+		@Override
+		public void drawLine( int x1, int y1, int x2, int y2 ) {
+			if( (x1 == x2 || y1 == y2) &&
+				gridLine( Math.min( x1, x2 ), Math.min( y1, y2 ), Math.abs( x2 - x1 ) + 1, Math.abs( y2 - y1 ) + 1 ) )
+			  return;
+
+			super.drawLine( x1, y1, x2, y2 );
+		}
+
+		@Override
+		public void fillRect( int x, int y, int width, int height ) {
+			if( (width == 1 || height == 1) && gridLine( x, y, width, height ) )
+				return;
+
+			// BasicTableUI.paintDraggedArea() fills background of dragged column
+			if( width == draggedWidth && x == draggedX && getColor() == table.getBackground() &&
+				isRowStart( y ) && isRowEnd( y + height - 1 ) )
+			{
+				inDraggedArea = true;
+				draggedY = y;
+				draggedHeight = height;
+			}
+
+			super.fillRect( x, y, width, height );
+		}
+
+		/**
+		 * Returns whether the given line (1px wide or high) is a grid line
+		 * painted by BasicTableUI, which is suppressed (or fixed in dragged area).
+		 */
+		private boolean gridLine( int x, int y, int width, int height ) {
+			if( getColor() != gridColor )
+				return false;
+
+			boolean horizontal = (height == 1);
+
+			// grid lines of dragged column (painted after dragged area was filled)
+			if( inDraggedArea ) {
+				if( horizontal
+					? (x == draggedX && width == draggedWidth &&
+					   y >= draggedY && y < draggedY + draggedHeight && isRowEnd( y ))
+					: ((x == draggedX - 1 || x == draggedX + draggedWidth - 1) &&
+					   y == draggedY && height == draggedHeight) )
+				{
+					if( horizontal )
+						fillHorizontalGridLine( g2, x, y, width, line );
+					else
+						fillVerticalGridLine( g2, x, y, height, line );
+					return true;
+				}
+			}
+
+			// grid lines painted by BasicTableUI.paintGrid()
+			// (horizontal lines at end of rows, from start of a column to end of a column;
+			// vertical lines at end of columns, from top of table to end of a row)
+			return horizontal
+				? (isRowEnd( y ) && isColumnStart( x ) && isColumnEnd( x + width - 1 ))
+				: (y == 0 && isColumnEnd( x ) && isRowEnd( height - 1 ));
+		}
+
+		private boolean isRowStart( int y ) {
+			return y == 0 || rowAt( y - 1 ) != rowAt( y );
+		}
+
+		private boolean isRowEnd( int y ) {
+			int row = rowAt( y );
+			return row >= 0 && rowAt( y + 1 ) != row;
+		}
+
+		private boolean isColumnStart( int x ) {
+			return x == 0 || columnAt( x - 1 ) != columnAt( x );
+		}
+
+		private boolean isColumnEnd( int x ) {
+			int column = columnAt( x );
+			return column >= 0 && columnAt( x + 1 ) != column;
+		}
+
+		private int rowAt( int y ) {
+			pt.setLocation( 0, y );
+			return table.rowAtPoint( pt );
+		}
+
+		private int columnAt( int x ) {
+			pt.setLocation( x, 0 );
+			return table.columnAtPoint( pt );
+		}
+	}
+
+	private int viewIndexForColumn( TableColumn column ) {
+		TableColumnModel cm = table.getColumnModel();
+		for( int i = cm.getColumnCount() - 1; i >= 0; i-- ) {
+			if( cm.getColumn( i ) == column )
+				return i;
+		}
+		return -1;
+	}
+
 	//---- class RoundedSelectionGraphics -------------------------------------
 
 	/**
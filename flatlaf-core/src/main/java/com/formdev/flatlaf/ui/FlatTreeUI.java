@@ -27,9 +27,8 @@ import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
 import java.awt.geom.Rectangle2D;
 import java.beans.PropertyChangeListener;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Enumeration;
-import java.util.HashSet;
 import java.util.Map;
 import javax.swing.CellRendererPane;
 import javax.swing.Icon;
@@ -174,6 +173,9 @@ public class FlatTreeUI
 	private Color defaultSelectionBorderColor;
 	private Map<String, Object> oldStyleValues;
 
+	private final RowPaintBuffer rowPaintBuffer = new RowPaintBuffer();
+	private final Rectangle wideBoundsBuffer = new Rectangle();
+
 	public static ComponentUI createUI( JComponent c ) {
 		return new FlatTreeUI();
 	}
@@ -402,6 +404,7 @@ public class FlatTreeUI
 		// This changes the behavior of JTree.getPathForLocation(int x, int y) and
 		// JTree.getRowForLocation(int x, int y), which now return the path/row even
 		// if [x,y] is in the wide row area outside of the actual tree node.
+		// (the call stack is only inspected if this experimental option is enabled)
 		if( bounds != null &&
 			isWideSelection() &&
 			UIManager.getBoolean( "FlatLaf.experimental.tree.widePathForLocation" ) &&
@@ -460,23 +463,14 @@ public class FlatTreeUI
 		if( visiblePaths != null ) {
 			Insets insets = tree.getInsets();
 
-			HashSet<TreePath> verticalLinePaths = paintLines ? new HashSet<>() : null;
-			ArrayList<Runnable> paintLinesLater = paintLines ? new ArrayList<>() : null;
-			ArrayList<Runnable> paintExpandControlsLater = paintLines ? new ArrayList<>() : null;
-
-			// add parents for later painting of vertical lines
-			if( paintLines ) {
-				for( TreePath path = firstPath.getParentPath(); path != null; path = path.getParentPath() )
-					verticalLinePaths.add( path );
-			}
-
 			Rectangle boundsBuffer = new Rectangle();
 			boolean rootVisible = isRootVisible();
 			int row = treeState.getRowForPath( firstPath );
 			boolean leftToRight = tree.getComponentOrientation().isLeftToRight();
 			int treeWidth = tree.getWidth();
+			int rowCount = 0;
 
-			// iterate over visible rows and paint rows, expand control and lines
+			// iterate over visible rows and paint rows (and expand controls if lines are not painted)
 			while( visiblePaths.hasMoreElements() ) {
 				TreePath path = visiblePaths.nextElement();
 				if( path == null )
@@ -501,36 +495,20 @@ public class FlatTreeUI
 				// paint row (including selection)
 				paintRow( g, clipBounds, insets, bounds, path, row, isExpanded, hasBeenExpanded, isLeaf );
 
-				// collect lines for later painting
+				boolean paintExpandControl = shouldPaintExpandControl( path, row, isExpanded, hasBeenExpanded, isLeaf );
 				if( paintLines ) {
-					TreePath parentPath = path.getParentPath();
-
-					// add parent for later painting of vertical lines
-					if( parentPath != null )
-						verticalLinePaths.add( parentPath );
-
-					// paint horizontal line later (for using rendering hints)
-					if( parentPath != null || (rootVisible && row == 0) ) {
-						Rectangle bounds2 = new Rectangle( bounds );
-						int row2 = row;
-						paintLinesLater.add( () -> {
-							paintHorizontalPartOfLeg( g, clipBounds, insets, bounds2, path, row2, isExpanded, hasBeenExpanded, isLeaf );
-						} );
-					}
-				}
-
-				// paint expand control
-				if( shouldPaintExpandControl( path, row, isExpanded, hasBeenExpanded, isLeaf ) ) {
-					if( paintLines ) {
-						// need to paint after painting lines
-						Rectangle bounds2 = new Rectangle( bounds );
-						int row2 = row;
-						paintExpandControlsLater.add( () -> {
-							paintExpandControl( g, clipBounds, insets, bounds2, path, row2, isExpanded, hasBeenExpanded, isLeaf );
-						} );
-					} else
-						paintExpandControl( g, clipBounds, insets, bounds, path, row, isExpanded, hasBeenExpanded, isLeaf );
-				}
+					// remember row for later painting of lines and expand controls
+					// (horizontal lines need rendering hints and expand controls
+					// need to be painted after lines)
+					boolean paintHorizontalLeg = (path.getParentPath() != null || (rootVisible && row == 0));
+					rowPaintBuffer.add( rowCount++, path, bounds, row,
+						(isExpanded ? RowPaintBuffer.EXPANDED : 0) |
+						(hasBeenExpanded ? RowPaintBuffer.HAS_BEEN_EXPANDED : 0) |
+						(isLeaf ? RowPaintBuffer.LEAF : 0) |
+						(paintHorizontalLeg ? RowPaintBuffer.HORIZONTAL_LEG : 0) |
+						(paintExpandControl ? RowPaintBuffer.EXPAND_CONTROL : 0) );
+				} else if( paintExpandControl )
+					paintExpandControl( g, clipBounds, insets, bounds, path, row, isExpanded, hasBeenExpanded, isLeaf );
 
 				if( bounds.y + bounds.height >= clipBounds.y + clipBounds.height )
 					break;
@@ -539,31 +517,70 @@ public class FlatTreeUI
 			}
 
 			if( paintLines ) {
-				// enable antialiasing for line painting
-				Object[] oldRenderingHints = FlatUIUtils.setRenderingHints( g );
-
-				// paint horizontal lines
-				for( Runnable r : paintLinesLater )
-					r.run();
+				try {
+					paintLinesAndExpandControls( g, clipBounds, insets, firstPath, rowCount, boundsBuffer );
+				} finally {
+					rowPaintBuffer.clear( rowCount );
+				}
+			}
+		}
 
-				// paint vertical lines
-				g.setColor( Color.green );
-				for( TreePath path : verticalLinePaths )
-					paintVerticalPartOfLeg( g, clipBounds, insets, path );
+		paintDropLine( g );
 
-				// restore rendering hints
-				if( oldRenderingHints != null )
-					FlatUIUtils.resetRenderingHints( g, oldRenderingHints );
+		rendererPane.removeAll();
+	}
 
-				// paint expand controls
-				for( Runnable r : paintExpandControlsLater )
-					r.run();
+	/**
+	 * Paints lines and expand controls of the rows that were remembered
+	 * in the row paint buffer while painting the rows.
+	 */
+	private void paintLinesAndExpandControls( Graphics g, Rectangle clipBounds, Insets insets,
+		TreePath firstPath, int rowCount, Rectangle boundsBuffer )
+	{
+		RowPaintBuffer buf = rowPaintBuffer;
+
+		// enable antialiasing for line painting
+		Object[] oldRenderingHints = FlatUIUtils.setRenderingHints( g );
+
+		// paint horizontal lines
+		for( int i = 0; i < rowCount; i++ ) {
+			int flags = buf.flags( i );
+			if( (flags & RowPaintBuffer.HORIZONTAL_LEG) != 0 ) {
+				paintHorizontalPartOfLeg( g, clipBounds, insets, buf.bounds( i, boundsBuffer ), buf.paths[i], buf.row( i ),
+					(flags & RowPaintBuffer.EXPANDED) != 0,
+					(flags & RowPaintBuffer.HAS_BEEN_EXPANDED) != 0,
+					(flags & RowPaintBuffer.LEAF) != 0 );
 			}
 		}
 
-		paintDropLine( g );
+		// paint vertical lines of parents of first row
+		g.setColor( Color.green );
+		for( TreePath path = firstPath.getParentPath(); path != null; path = path.getParentPath() )
+			paintVerticalPartOfLeg( g, clipBounds, insets, path );
+
+		// paint vertical lines of rows that are parents of following rows
+		// (rows are in depth-first order, so a parent is always followed by its first child)
+		for( int i = 0; i < rowCount - 1; i++ ) {
+			TreePath path = buf.paths[i];
+			TreePath childParentPath = buf.paths[i + 1].getParentPath();
+			if( childParentPath == path || path.equals( childParentPath ) )
+				paintVerticalPartOfLeg( g, clipBounds, insets, path );
+		}
 
-		rendererPane.removeAll();
+		// restore rendering hints
+		if( oldRenderingHints != null )
+			FlatUIUtils.resetRenderingHints( g, oldRenderingHints );
+
+		// paint expand controls
+		for( int i = 0; i < rowCount; i++ ) {
+			int flags = buf.flags( i );
+			if( (flags & RowPaintBuffer.EXPAND_CONTROL) != 0 ) {
+				paintExpandControl( g, clipBounds, insets, buf.bounds( i, boundsBuffer ), buf.paths[i], buf.row( i ),
+					(flags & RowPaintBuffer.EXPANDED) != 0,
+					(flags & RowPaintBuffer.HAS_BEEN_EXPANDED) != 0,
+					(flags & RowPaintBuffer.LEAF) != 0 );
+			}
+		}
 	}
 
 	/**
@@ -590,7 +607,8 @@ public class FlatTreeUI
 
 		// update bounds for wide cell renderer
 		if( isWideSelection() && isWideCellRenderer() ) {
-			Rectangle wideBounds = new Rectangle( bounds );
+			Rectangle wideBounds = wideBoundsBuffer;
+			wideBounds.setBounds( bounds );
 			if( tree.getComponentOrientation().isLeftToRight() )
 				wideBounds.width = tree.getWidth() - bounds.x - insets.right;
 			else {
@@ -832,4 +850,63 @@ public class FlatTreeUI
 	protected boolean isPaintSelection() {
 		return clientPropertyBoolean( tree, TREE_PAINT_SELECTION, paintSelection );
 	}
+
+	//---- class RowPaintBuffer -----------------------------------------------
+
+	/**
+	 * Reusable buffer that remembers painted rows for later painting of lines
+	 * and expand controls. Uses primitive arrays to avoid allocations per row.
+	 */
+	private static class RowPaintBuffer
+	{
+		static final int EXPANDED = 1 << 0;
+		static final int HAS_BEEN_EXPANDED = 1 << 1;
+		static final int LEAF = 1 << 2;
+		static final int HORIZONTAL_LEG = 1 << 3;
+		static final int EXPAND_CONTROL = 1 << 4;
+
+		// x, y, width, height, row, flags
+		private static final int STRIDE = 6;
+
+		int[] data = new int[32 * STRIDE];
+		TreePath[] paths = new TreePath[32];
+
+		void add( int index, TreePath path, Rectangle bounds, int row, int flags ) {
+			if( index >= paths.length ) {
+				int newLength = paths.length * 2;
+				paths = Arrays.copyOf( paths, newLength );
+				data = Arrays.copyOf( data, newLength * STRIDE );
+			}
+
+			paths[index] = path;
+			int i = index * STRIDE;
+			data[i] = bounds.x;
+			data[i + 1] = bounds.y;
+			data[i + 2] = bounds.width;
+			data[i + 3] = bounds.height;
+			data[i + 4] = row;
+			data[i + 5] = flags;
+		}
+
+		Rectangle bounds( int index, Rectangle r ) {
+			int i = index * STRIDE;
+			r.setBounds( data[i], data[i + 1], data[i + 2], data[i + 3] );
+			return r;
+		}
+
+		int row( int index ) {
+			return data[index * STRIDE + 4];
+		}
+
+		int flags( int index ) {
+			return data[index * STRIDE + 5];
+		}
+
+		/**
+		 * Releases references to tree paths.
+		 */
+		void clear( int count ) {
+			Arrays.fill( paths, 0, count, null );
+		}
+	}
 }
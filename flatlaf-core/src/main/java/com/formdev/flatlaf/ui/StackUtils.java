@@ -16,6 +16,7 @@
 
 package com.formdev.flatlaf.ui;
 
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiPredicate;
 
 /**
@@ -25,6 +26,8 @@ public class StackUtils
 {
 	private static final StackUtils INSTANCE = new StackUtilsImpl();
 
+	private static final AtomicLong walkCount = new AtomicLong();
+
 	// hide from javadoc
 	StackUtils() {
 	}
@@ -41,9 +44,21 @@ public class StackUtils
 	 * which gets the class name of the stack frame as first parameter and the method name as second parameter.
 	 */
 	public static boolean wasInvokedFrom( BiPredicate<String, String> predicate, int limit ) {
+		walkCount.incrementAndGet();
 		return INSTANCE.wasInvokedFromImpl( predicate, limit );
 	}
 
+	/**
+	 * Returns the number of stack walks done by {@link #wasInvokedFrom} since application start.
+	 * Useful to verify that no stack walks occur in frequently invoked code
+	 * (e.g. while typing or hovering with the mouse).
+	 *
+	 * @since 3.7
+	 */
+	public static long getWalkCount() {
+		return walkCount.get();
+	}
+
 	boolean wasInvokedFromImpl( BiPredicate<String, String> predicate, int limit ) {
 		throw new UnsupportedOperationException();
 	}
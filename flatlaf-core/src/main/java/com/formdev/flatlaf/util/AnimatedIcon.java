@@ -191,7 +191,8 @@ public interface AnimatedIcon
 							as2.fraction = fraction;
 
 							// repaint icon
-							c.repaint( as2.x, as2.y, icon.getIconWidth(), icon.getIconHeight() );
+							// (repaints of multiple icons in same window are batched per frame)
+							FrameClock.repaint( c, as2.x, as2.y, icon.getIconWidth(), icon.getIconHeight() );
 						}, () -> {
 							as2.startValue = as2.animatedValue = as2.targetValue;
 							as2.animator = null;
@@ -17,12 +17,15 @@
 package com.formdev.flatlaf.util;
 
 import java.util.ArrayList;
-import javax.swing.Timer;
 import com.formdev.flatlaf.FlatSystemProperties;
 
 /**
  * Simple animator based on ideas and concepts from "Filthy Rich Clients" book
  * and "Timing Framework" library.
+ * <p>
+ * All running animators share a single timer (frame clock),
+ * so that timing events of multiple animations are delivered in the same
+ * event dispatch thread event.
  *
  * @author Karl Tauber
  */
@@ -38,7 +41,7 @@ public class Animator
 	private boolean hasBegun;
 	private boolean timeToStop;
 	private long startTime;
-	private Timer timer;
+	private long lastTimingEventTime;
 
 	/**
 	 * Checks whether animations are enabled (the default) or disabled via
@@ -115,16 +118,22 @@ public class Animator
 
 	/**
 	 * Sets the resolution of the animation in milliseconds.
+	 * May be changed while the animation is running.
 	 *
 	 * @param resolution the resolution of the animation in milliseconds
-	 * @throws IllegalStateException if animation is running
 	 * @throws IllegalArgumentException if resolution is &lt;= zero
 	 */
 	public void setResolution( int resolution ) {
-		throwExceptionIfRunning();
 		if( resolution <= 0 )
 			throw new IllegalArgumentException();
+		if( resolution == this.resolution )
+			return;
+
 		this.resolution = resolution;
+
+		// update period of frame clock
+		if( isRunning() )
+			FrameClock.updateTimer();
 	}
 
 	/**
@@ -184,19 +193,7 @@ public class Animator
 		timeToStop = false;
 		startTime = System.nanoTime() / 1000000;
 
-		if( timer == null ) {
-			timer = new Timer( resolution, e -> {
-				if( !hasBegun ) {
-					begin();
-					hasBegun = true;
-				}
-
-				timingEvent( getTimingFraction() );
-			} );
-		} else
-			timer.setDelay( resolution );
-		timer.setInitialDelay( 0 );
-		timer.start();
+		FrameClock.add( this );
 	}
 
 	/**
@@ -219,8 +216,7 @@ public class Animator
 		if( !running )
 			return;
 
-		if( timer != null )
-			timer.stop();
+		FrameClock.remove( this );
 
 		if( !cancel )
 			end();
@@ -245,8 +241,29 @@ public class Animator
 		return running;
 	}
 
-	private float getTimingFraction() {
-		long currentTime = System.nanoTime() / 1000000;
+	/**
+	 * Invoked from frame clock on the event dispatch thread.
+	 *
+	 * @param frameTime the time of the current frame in milliseconds
+	 * @param period the current delay between frames in milliseconds
+	 */
+	void frame( long frameTime, int period ) {
+		if( !running )
+			return;
+
+		if( !hasBegun ) {
+			begin();
+			hasBegun = true;
+		} else if( frameTime - lastTimingEventTime < resolution - (period / 2) ) {
+			// skip frame if resolution of this animator is larger than frame clock period
+			return;
+		}
+
+		lastTimingEventTime = frameTime;
+		timingEvent( getTimingFraction( frameTime ) );
+	}
+
+	private float getTimingFraction( long currentTime ) {
 		long elapsedTime = currentTime - startTime;
 		timeToStop = (elapsedTime >= duration);
 
@@ -25,6 +25,9 @@ import java.awt.Color;
  */
 public class ColorFunctions
 {
+	// scratch arrays used by applyFunctions(int, ColorFunction...)
+	private static final ThreadLocal<HSLABuffer> hslaBuffers = ThreadLocal.withInitial( HSLABuffer::new );
+
 	/**
 	 * Increase the lightness of a color in HSL color space by an absolute amount.
 	 * <p>
@@ -105,6 +108,81 @@ public class ColorFunctions
 		return HSLColor.toRGB( hsl[0], hsl[1], hsl[2], alpha );
 	}
 
+	/**
+	 * Same as {@link #lighten(Color, float)}, but for ARGB colors
+	 * (alpha in bits 24-31). Does not allocate color objects.
+	 *
+	 * @since 3.7
+	 */
+	public static int lighten( int argb, float amount ) {
+		return hslIncreaseDecrease( argb, amount, 2, true );
+	}
+
+	/**
+	 * Same as {@link #darken(Color, float)}, but for ARGB colors
+	 * (alpha in bits 24-31). Does not allocate color objects.
+	 *
+	 * @since 3.7
+	 */
+	public static int darken( int argb, float amount ) {
+		return hslIncreaseDecrease( argb, amount, 2, false );
+	}
+
+	/**
+	 * Same as {@link #saturate(Color, float)}, but for ARGB colors
+	 * (alpha in bits 24-31). Does not allocate color objects.
+	 *
+	 * @since 3.7
+	 */
+	public static int saturate( int argb, float amount ) {
+		return hslIncreaseDecrease( argb, amount, 1, true );
+	}
+
+	/**
+	 * Same as {@link #desaturate(Color, float)}, but for ARGB colors
+	 * (alpha in bits 24-31). Does not allocate color objects.
+	 *
+	 * @since 3.7
+	 */
+	public static int desaturate( int argb, float amount ) {
+		return hslIncreaseDecrease( argb, amount, 1, false );
+	}
+
+	/**
+	 * Same as {@link #spin(Color, float)}, but for ARGB colors
+	 * (alpha in bits 24-31). Does not allocate color objects.
+	 *
+	 * @since 3.7
+	 */
+	public static int spin( int argb, float angle ) {
+		return hslIncreaseDecrease( argb, angle, 0, true );
+	}
+
+	private static int hslIncreaseDecrease( int argb, float amount, int hslIndex, boolean increase ) {
+		// convert RGB to HSL (using local variables to avoid array allocation)
+		float r = ((argb >> 16) & 0xff) / 255f;
+		float g = ((argb >> 8) & 0xff) / 255f;
+		float b = (argb & 0xff) / 255f;
+		float min = Math.min( r, Math.min( g, b ) );
+		float max = Math.max( r, Math.max( g, b ) );
+		float h = HSLColor.hue( r, g, b, min, max );
+		float s = HSLColor.saturation( min, max );
+		float l = HSLColor.luminance( min, max );
+		float alpha = (argb >>> 24) / 255f;
+
+		// apply HSL color change
+		float amount2 = increase ? amount : -amount;
+		if( hslIndex == 0 )
+			h = (h + amount2) % 360;
+		else if( hslIndex == 1 )
+			s = clamp( s + (amount2 * 100) );
+		else
+			l = clamp( l + (amount2 * 100) );
+
+		// convert HSL to RGB
+		return HSLColor.toARGB( h, s, l, alpha );
+	}
+
 	/**
 	 * Set the opacity (alpha) of a color.
 	 *
@@ -114,8 +192,18 @@ public class ColorFunctions
 	 * @since 3
 	 */
 	public static Color fade( Color color, float amount ) {
+		return new Color( fade( color.getRGB(), amount ), true );
+	}
+
+	/**
+	 * Same as {@link #fade(Color, float)}, but for ARGB colors
+	 * (alpha in bits 24-31). Does not allocate color objects.
+	 *
+	 * @since 3.7
+	 */
+	public static int fade( int argb, float amount ) {
 		int newAlpha = Math.round( 255 * amount );
-		return new Color( (color.getRGB() & 0xffffff) | (newAlpha << 24), true );
+		return (argb & 0xffffff) | (newAlpha << 24);
 	}
 
 	/**
@@ -138,21 +226,38 @@ public class ColorFunctions
 		if( color1.equals( color2 ) )
 			return color1;
 
-		int r1 = color1.getRed();
-		int g1 = color1.getGreen();
-		int b1 = color1.getBlue();
-		int a1 = color1.getAlpha();
-
-		int r2 = color2.getRed();
-		int g2 = color2.getGreen();
-		int b2 = color2.getBlue();
-		int a2 = color2.getAlpha();
+		return new Color( mix( color1.getRGB(), color2.getRGB(), weight ), true );
+	}
 
-		return new Color(
-			Math.round( r2 + ((r1 - r2) * weight) ),
-			Math.round( g2 + ((g1 - g2) * weight) ),
-			Math.round( b2 + ((b1 - b2) * weight) ),
-			Math.round( a2 + ((a1 - a2) * weight) ) );
+	/**
+	 * Same as {@link #mix(Color, Color, float)}, but for ARGB colors
+	 * (alpha in bits 24-31). Does not allocate color objects.
+	 * <p>
+	 * This can be used to animate a color change (e.g. on hover)
+	 * without creating a color object for each animation step.
+	 *
+	 * @since 3.7
+	 */
+	public static int mix( int argb1, int argb2, float weight ) {
+		if( weight >= 1 || argb1 == argb2 )
+			return argb1;
+		if( weight <= 0 )
+			return argb2;
+
+		int r1 = (argb1 >> 16) & 0xff;
+		int g1 = (argb1 >> 8) & 0xff;
+		int b1 = argb1 & 0xff;
+		int a1 = argb1 >>> 24;
+
+		int r2 = (argb2 >> 16) & 0xff;
+		int g2 = (argb2 >> 8) & 0xff;
+		int b2 = argb2 & 0xff;
+		int a2 = argb2 >>> 24;
+
+		return (Math.round( a2 + ((a1 - a2) * weight) ) << 24) |
+			(Math.round( r2 + ((r1 - r2) * weight) ) << 16) |
+			(Math.round( g2 + ((g1 - g2) * weight) ) << 8) |
+			Math.round( b2 + ((b1 - b2) * weight) );
 	}
 
 	/**
@@ -183,6 +288,26 @@ public class ColorFunctions
 		return mix( Color.black, color, weight );
 	}
 
+	/**
+	 * Same as {@link #tint(Color, float)}, but for ARGB colors
+	 * (alpha in bits 24-31). Does not allocate color objects.
+	 *
+	 * @since 3.7
+	 */
+	public static int tint( int argb, float weight ) {
+		return mix( 0xffffffff, argb, weight );
+	}
+
+	/**
+	 * Same as {@link #shade(Color, float)}, but for ARGB colors
+	 * (alpha in bits 24-31). Does not allocate color objects.
+	 *
+	 * @since 3.7
+	 */
+	public static int shade( int argb, float weight ) {
+		return mix( 0xff000000, argb, weight );
+	}
+
 	/**
 	 * Calculates the luma (perceptual brightness) of the given color.
 	 * <p>
@@ -242,6 +367,45 @@ public class ColorFunctions
 		return HSLColor.toRGB( hsla[0], hsla[1], hsla[2], hsla[3] / 100 );
 	}
 
+	/**
+	 * Same as {@link #applyFunctions(Color, ColorFunction...)}, but for ARGB colors
+	 * (alpha in bits 24-31). Does not allocate color objects.
+	 *
+	 * @since 3.7
+	 */
+	public static int applyFunctions( int argb, ColorFunction... functions ) {
+		// if having only a single function of type Mix, then avoid unnecessary conversions
+		if( functions.length == 1 && functions[0] instanceof Mix ) {
+			Mix mixFunction = (Mix) functions[0];
+			return mix( argb, mixFunction.color2.getRGB(), mixFunction.weight / 100 );
+		} else if( functions.length == 1 && functions[0] instanceof Mix2 ) {
+			Mix2 mixFunction = (Mix2) functions[0];
+			return mix( mixFunction.color1.getRGB(), argb, mixFunction.weight / 100 );
+		}
+
+		// use per-thread scratch array to avoid allocation
+		// (allocate new array if a color function invokes this method recursively)
+		HSLABuffer buffer = hslaBuffers.get();
+		boolean useBuffer = !buffer.inUse;
+		float[] hsla = useBuffer ? buffer.hsla : new float[4];
+		buffer.inUse = true;
+		try {
+			// convert RGB to HSL
+			HSLColor.fromRGB( argb, hsla );
+			hsla[3] = ((argb >>> 24) / 255f) * 100;
+
+			// apply color functions
+			for( ColorFunction function : functions )
+				function.apply( hsla );
+
+			// convert HSL to RGB
+			return HSLColor.toARGB( hsla[0], hsla[1], hsla[2], hsla[3] / 100 );
+		} finally {
+			if( useBuffer )
+				buffer.inUse = false;
+		}
+	}
+
 	/**
 	 * Clamps the given value between 0 and 100.
 	 */
@@ -253,6 +417,14 @@ public class ColorFunctions
 				: value);
 	}
 
+	//---- class HSLABuffer ---------------------------------------------------
+
+	private static class HSLABuffer
+	{
+		final float[] hsla = new float[4];
+		boolean inUse;
+	}
+
 	//---- interface ColorFunction --------------------------------------------
 
 	public interface ColorFunction {
@@ -411,15 +583,14 @@ public class ColorFunctions
 		@Override
 		public void apply( float[] hsla ) {
 			// convert from HSL to RGB because color mixing is done on RGB values
-			Color color1 = HSLColor.toRGB( hsla[0], hsla[1], hsla[2], hsla[3] / 100 );
+			int color1 = HSLColor.toARGB( hsla[0], hsla[1], hsla[2], hsla[3] / 100 );
 
 			// mix
-			Color color = mix( color1, color2, weight / 100 );
+			int color = mix( color1, color2.getRGB(), weight / 100 );
 
 			// convert RGB to HSL
-			float[] hsl = HSLColor.fromRGB( color );
-			System.arraycopy( hsl, 0, hsla, 0, hsl.length );
-			hsla[3] = (color.getAlpha() / 255f) * 100;
+			HSLColor.fromRGB( color, hsla );
+			hsla[3] = ((color >>> 24) / 255f) * 100;
 		}
 
 		@Override
@@ -451,15 +622,14 @@ public class ColorFunctions
 		@Override
 		public void apply( float[] hsla ) {
 			// convert from HSL to RGB because color mixing is done on RGB values
-			Color color2 = HSLColor.toRGB( hsla[0], hsla[1], hsla[2], hsla[3] / 100 );
+			int color2 = HSLColor.toARGB( hsla[0], hsla[1], hsla[2], hsla[3] / 100 );
 
 			// mix
-			Color color = mix( color1, color2, weight / 100 );
+			int color = mix( color1.getRGB(), color2, weight / 100 );
 
 			// convert RGB to HSL
-			float[] hsl = HSLColor.fromRGB( color );
-			System.arraycopy( hsl, 0, hsla, 0, hsl.length );
-			hsla[3] = (color.getAlpha() / 255f) * 100;
+			HSLColor.fromRGB( color, hsla );
+			hsla[3] = ((color >>> 24) / 255f) * 100;
 		}
 
 		@Override
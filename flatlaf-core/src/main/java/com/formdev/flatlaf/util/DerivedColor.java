@@ -35,6 +35,11 @@ public class DerivedColor
 	private boolean hasBaseOfDefaultColor;
 	private int baseOfDefaultColorRGB;
 
+	// cache for colors derived from other base colors (e.g. custom button backgrounds)
+	private static final int CACHE_SIZE = 4;
+	private transient CacheEntry[] cache;
+	private transient int nextCacheIndex;
+
 	public DerivedColor( Color defaultColor, ColorFunction... functions ) {
 		super( (defaultColor != null) ? defaultColor : Color.red );
 		this.functions = functions;
@@ -44,15 +49,31 @@ public class DerivedColor
 		if( (hasBaseOfDefaultColor && baseOfDefaultColorRGB == baseColor.getRGB()) || baseColor == this )
 			return this; // return default color
 
-		Color result = ColorFunctions.applyFunctions( baseColor, functions );
+		int baseRGB = baseColor.getRGB();
+		CacheEntry[] cache = this.cache;
+		if( cache != null ) {
+			for( CacheEntry entry : cache ) {
+				if( entry != null && entry.baseRGB == baseRGB )
+					return entry.result;
+			}
+		}
+
+		Color result = new Color( ColorFunctions.applyFunctions( baseRGB, functions ), true );
 
 		// if the result is equal to the default color, then the original base color
 		// was passed, and we can cache this to avoid color calculations
 		if( !hasBaseOfDefaultColor && result.getRGB() == this.getRGB() ) {
 			hasBaseOfDefaultColor = true;
-			baseOfDefaultColorRGB = baseColor.getRGB();
+			baseOfDefaultColorRGB = baseRGB;
+			return result;
 		}
 
+		// cache result (replace oldest entry)
+		if( cache == null )
+			this.cache = cache = new CacheEntry[CACHE_SIZE];
+		cache[nextCacheIndex] = new CacheEntry( baseRGB, result );
+		nextCacheIndex = (nextCacheIndex + 1) % CACHE_SIZE;
+
 		return result;
 	}
 
@@ -72,4 +93,17 @@ public class DerivedColor
 
 		return buf.toString();
 	}
+
+	//---- class CacheEntry ---------------------------------------------------
+
+	private static class CacheEntry
+	{
+		final int baseRGB;
+		final Color result;
+
+		CacheEntry( int baseRGB, Color result ) {
+			this.baseRGB = baseRGB;
+			this.result = result;
+		}
+	}
 }
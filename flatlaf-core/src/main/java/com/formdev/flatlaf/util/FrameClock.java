@@ -0,0 +1,248 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf.util;
+
+import java.awt.Component;
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import javax.swing.JRootPane;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+
+/**
+ * A frame clock that drives all running animators using a single timer.
+ * <p>
+ * All animators receive their timing events in the same event dispatch thread event
+ * and with the same frame time. This coalesces timing events of multiple animations
+ * (e.g. many animated check boxes or switches).
+ * Repaint requests issued via {@link #repaint(Component, int, int, int, int)}
+ * are batched per frame and per window (see there).
+ * <p>
+ * The timer delay is the smallest resolution of all running animators.
+ * Animators with larger resolution skip frames.
+ * The timer is stopped if no animator is running.
+ *
+ * @author Karl Tauber
+ */
+class FrameClock
+{
+	private static final Animator[] EMPTY = {};
+
+	// copy-on-write array of running animators
+	private static Animator[] animators = EMPTY;
+	private static Timer timer;
+	private static int period;
+
+	// repainted areas of current frame, per root pane (only used on event dispatch thread)
+	private static final ArrayList<DirtyRegion> dirtyRegions = new ArrayList<>();
+	private static boolean inFrame;
+
+	/**
+	 * Adds the given animator to the frame clock and starts the timer, if necessary.
+	 */
+	static synchronized void add( Animator animator ) {
+		for( Animator a : animators ) {
+			if( a == animator )
+				return;
+		}
+
+		Animator[] newAnimators = Arrays.copyOf( animators, animators.length + 1 );
+		newAnimators[animators.length] = animator;
+		animators = newAnimators;
+
+		if( timer == null ) {
+			timer = new Timer( animator.getResolution(), e -> frame() );
+			timer.setInitialDelay( 0 );
+		}
+		updateTimer();
+	}
+
+	/**
+	 * Removes the given animator from the frame clock and stops the timer,
+	 * if no more animators are running.
+	 */
+	static synchronized void remove( Animator animator ) {
+		int index = -1;
+		for( int i = 0; i < animators.length; i++ ) {
+			if( animators[i] == animator ) {
+				index = i;
+				break;
+			}
+		}
+		if( index < 0 )
+			return;
+
+		if( animators.length == 1 )
+			animators = EMPTY;
+		else {
+			Animator[] newAnimators = new Animator[animators.length - 1];
+			System.arraycopy( animators, 0, newAnimators, 0, index );
+			System.arraycopy( animators, index + 1, newAnimators, index, newAnimators.length - index );
+			animators = newAnimators;
+		}
+		updateTimer();
+	}
+
+	/**
+	 * Updates the timer delay to the smallest resolution of all running animators.
+	 * Invoked when animators are added or removed, or the resolution of a running animator changes.
+	 */
+	static synchronized void updateTimer() {
+		if( timer == null )
+			return;
+
+		if( animators.length == 0 ) {
+			// idle
+			timer.stop();
+			period = 0;
+			return;
+		}
+
+		int minResolution = Integer.MAX_VALUE;
+		for( Animator a : animators )
+			minResolution = Math.min( minResolution, a.getResolution() );
+
+		if( minResolution != period ) {
+			period = minResolution;
+			timer.setDelay( minResolution );
+		}
+		if( !timer.isRunning() ) {
+			timer.setInitialDelay( 0 );
+			timer.start();
+		}
+	}
+
+	/**
+	 * Returns whether the timer is running.
+	 */
+	static synchronized boolean isRunning() {
+		return timer != null && timer.isRunning();
+	}
+
+	/**
+	 * Returns the current timer delay, or zero if idle.
+	 */
+	static synchronized int getPeriod() {
+		return period;
+	}
+
+	/**
+	 * Invoked on the event dispatch thread for each frame.
+	 */
+	private static void frame() {
+		Animator[] animators;
+		int period;
+		synchronized( FrameClock.class ) {
+			animators = FrameClock.animators;
+			period = FrameClock.period;
+		}
+
+		long frameTime = System.nanoTime() / 1000000;
+		inFrame = true;
+		try {
+			for( Animator animator : animators ) {
+				try {
+					animator.frame( frameTime, period );
+				} catch( RuntimeException ex ) {
+					// stop failing animation, but continue other animations
+					animator.cancel();
+					LoggingFacade.INSTANCE.logSevere( null, ex );
+				}
+			}
+		} finally {
+			inFrame = false;
+			repaintDirtyRegions();
+		}
+	}
+
+	/**
+	 * Repaints the given area of the given component.
+	 * <p>
+	 * If invoked from a timing event, then the area is also remembered (in root pane coordinates).
+	 * At the end of the frame, the union of all areas that were repainted in the same window
+	 * is repainted in the root pane, if more than one area was repainted and the union
+	 * is not much larger than the areas. Because the root pane is an ancestor of the
+	 * repainted components, Swing's repaint manager then merges the repaint requests
+	 * of the components into the root pane request and paints all areas in a single
+	 * paint pass, instead of one paint pass per component.
+	 */
+	static void repaint( Component c, int x, int y, int width, int height ) {
+		// always invoke repaint() on given component, for the case that component overrides that method
+		c.repaint( x, y, width, height );
+
+		if( !inFrame || width <= 0 || height <= 0 )
+			return;
+
+		// find root pane and convert location to root pane coordinates
+		JRootPane rootPane = null;
+		for( Component p = c; p != null; p = p.getParent() ) {
+			if( p instanceof JRootPane ) {
+				rootPane = (JRootPane) p;
+				break;
+			}
+			x += p.getX();
+			y += p.getY();
+		}
+		if( rootPane == null )
+			return;
+
+		for( DirtyRegion r : dirtyRegions ) {
+			if( r.rootPane == rootPane ) {
+				r.add( x, y, width, height );
+				return;
+			}
+		}
+		dirtyRegions.add( new DirtyRegion( rootPane, x, y, width, height ) );
+	}
+
+	private static void repaintDirtyRegions() {
+		if( dirtyRegions.isEmpty() )
+			return;
+
+		for( DirtyRegion r : dirtyRegions ) {
+			// repaint union only if it is at most twice as large as the repainted areas
+			// (avoid painting large areas if areas are far apart)
+			if( r.count > 1 && (long) r.bounds.width * r.bounds.height <= r.area * 2 )
+				HiDPIUtils.repaint( r.rootPane, r.bounds );
+		}
+		dirtyRegions.clear();
+	}
+
+	//---- class DirtyRegion --------------------------------------------------
+
+	private static class DirtyRegion
+	{
+		final JRootPane rootPane;
+		final Rectangle bounds;
+		long area;
+		int count;
+
+		DirtyRegion( JRootPane rootPane, int x, int y, int width, int height ) {
+			this.rootPane = rootPane;
+			bounds = new Rectangle( x, y, width, height );
+			area = (long) width * height;
+			count = 1;
+		}
+
+		void add( int x, int y, int width, int height ) {
+			SwingUtilities.computeUnion( x, y, width, height, bounds );
+			area += (long) width * height;
+			count++;
+		}
+	}
+}
@@ -19,12 +19,37 @@ public class GrayFilter
 	private final int origContrast;
 	private final int origBrightness;
 
+	/** maps NTSC gray value to resulting gray value (brightness and contrast applied) */
+	private final int[] grayTable = new int[256];
+
+	private static GrayFilter disabledIconFilterLight;
+	private static GrayFilter disabledIconFilterDark;
+
 	public static GrayFilter createDisabledIconFilter( boolean dark ) {
 		return dark
 			? new GrayFilter( -20, -70, 100 )
 			: new GrayFilter(  25, -25, 100 );
 	}
 
+	/**
+	 * Returns a shared filter for disabled icons.
+	 * Same as {@link #createDisabledIconFilter(boolean)}, but always returns the same instance,
+	 * which allows caching filtered images (e.g. keyed by filter).
+	 *
+	 * @since 3.7
+	 */
+	public static synchronized GrayFilter getDisabledIconFilter( boolean dark ) {
+		if( dark ) {
+			if( disabledIconFilterDark == null )
+				disabledIconFilterDark = createDisabledIconFilter( true );
+			return disabledIconFilterDark;
+		} else {
+			if( disabledIconFilterLight == null )
+				disabledIconFilterLight = createDisabledIconFilter( false );
+			return disabledIconFilterLight;
+		}
+	}
+
 	/**
 	 * @param brightness in range [-100..100] where 0 has no effect
 	 * @param contrast in range [-100..100] where 0 has no effect
@@ -38,6 +63,9 @@ public class GrayFilter
 		this.brightness = (float) (Math.pow( origBrightness, 3 ) / (100f * 100f)); // cubic in [0..100]
 		this.contrast = origContrast / 100f;
 
+		for( int gray = 0; gray < 256; gray++ )
+			grayTable[gray] = adjustGray( gray );
+
 		canFilterIndexColorModel = true;
 	}
 
@@ -65,6 +93,16 @@ public class GrayFilter
 			0.59 * (rgb >> 8 & 0xff) +
 			0.11 * (rgb & 0xff));
 
+		gray = grayTable[gray];
+
+		int a = (alpha != 100)
+			? (((rgb >> 24) & 0xff) * alpha / 100) << 24
+			: (rgb & 0xff000000);
+
+		return a | (gray << 16) | (gray << 8) | gray;
+	}
+
+	private int adjustGray( int gray ) {
 		if( brightness >= 0 )
 			gray = (int) ((gray + brightness * 255) / (1 + brightness));
 		else
@@ -78,10 +116,6 @@ public class GrayFilter
 		} else
 			gray = (int) (127 + (gray - 127) * (contrast + 1));
 
-		int a = (alpha != 100)
-			? (((rgb >> 24) & 0xff) * alpha / 100) << 24
-			: (rgb & 0xff000000);
-
-		return a | (gray << 16) | (gray << 8) | gray;
+		return gray;
 	}
 }
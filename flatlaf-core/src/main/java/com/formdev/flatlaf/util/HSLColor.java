@@ -262,35 +262,60 @@ public class HSLColor
 		//  Get RGB values in the range 0 - 1
 
 		float[] rgb = color.getRGBColorComponents( null );
-		float r = rgb[0];
-		float g = rgb[1];
-		float b = rgb[2];
+		float[] hsl = new float[3];
+		fromRGB(rgb[0], rgb[1], rgb[2], hsl);
+		return hsl;
+	}
+
+	/**
+	 *  Convert a RGB color (packed into an int) to its corresponding HSL values.
+	 *  Same as {@link #fromRGB(Color)}, but does not allocate objects.
+	 *
+	 *  @param rgb  the RGB color (alpha in bits 24-31 is ignored)
+	 *  @param hsl  an array (with at least 3 elements) that receives the 3 HSL values
+	 *
+	 *  @since 3.7
+	 */
+	public static void fromRGB(int rgb, float[] hsl)
+	{
+		fromRGB(((rgb >> 16) & 0xff) / 255f, ((rgb >> 8) & 0xff) / 255f, (rgb & 0xff) / 255f, hsl);
+	}
 
+	private static void fromRGB(float r, float g, float b, float[] hsl)
+	{
 		//	Minimum and Maximum RGB values are used in the HSL calculations
 
 		float min = Math.min(r, Math.min(g, b));
 		float max = Math.max(r, Math.max(g, b));
 
-		//  Calculate the Hue
-
-		float h = 0;
+		hsl[0] = hue(r, g, b, min, max);
+		hsl[1] = saturation(min, max);
+		hsl[2] = luminance(min, max);
+	}
 
+	/**
+	 *  Calculates the hue (in the range 0 - 360) from RGB values (in the range 0 - 1)
+	 *  and their minimum and maximum.
+	 */
+	static float hue(float r, float g, float b, float min, float max)
+	{
 		if (max == min)
-			h = 0;
+			return 0;
 		else if (max == r)
-			h = ((60 * (g - b) / (max - min)) + 360) % 360;
+			return ((60 * (g - b) / (max - min)) + 360) % 360;
 		else if (max == g)
-			h = (60 * (b - r) / (max - min)) + 120;
-		else if (max == b)
-			h = (60 * (r - g) / (max - min)) + 240;
-
-		//  Calculate the Luminance
+			return (60 * (b - r) / (max - min)) + 120;
+		else
+			return (60 * (r - g) / (max - min)) + 240;
+	}
 
+	/**
+	 *  Calculates the saturation (as a percentage in the range 0 - 100)
+	 *  from the minimum and maximum RGB values (in the range 0 - 1).
+	 */
+	static float saturation(float min, float max)
+	{
 		float l = (max + min) / 2;
-//		System.out.println(max + " : " + min + " : " + l);
-
-		//  Calculate the Saturation
-
 		float s;
 
 		if (max == min)
@@ -300,8 +325,17 @@ public class HSLColor
 		else
 			s = (max - min) / (2 - max - min);
 
-//		System.out.println(new HSLColor( new float[] {h, s * 100, l * 100} ));
-		return new float[] {h, s * 100, l * 100};
+		return s * 100;
+	}
+
+	/**
+	 *  Calculates the luminance (as a percentage in the range 0 - 100)
+	 *  from the minimum and maximum RGB values (in the range 0 - 1).
+	 */
+	static float luminance(float min, float max)
+	{
+		float l = (max + min) / 2;
+		return l * 100;
 	}
 
 	/**
@@ -361,23 +395,7 @@ public class HSLColor
 	 */
 	public static Color toRGB(float h, float s, float l, float alpha)
 	{
-		if (s <0.0f || s > 100.0f)
-		{
-			String message = "Color parameter outside of expected range - Saturation";
-			throw new IllegalArgumentException( message );
-		}
-
-		if (l <0.0f || l > 100.0f)
-		{
-			String message = "Color parameter outside of expected range - Luminance";
-			throw new IllegalArgumentException( message );
-		}
-
-		if (alpha <0.0f || alpha > 1.0f)
-		{
-			String message = "Color parameter outside of expected range - Alpha";
-			throw new IllegalArgumentException( message );
-		}
+		checkRange(s, l, alpha);
 
 		//  Formula needs all values between 0 - 1.
 
@@ -406,6 +424,72 @@ public class HSLColor
 		return new Color(r, g, b, alpha);
 	}
 
+	/**
+	 *  Convert HSL values to a RGB color packed into an int
+	 *  (alpha in bits 24-31, red in bits 16-23, green in bits 8-15, blue in bits 0-7).
+	 *  Same as {@link #toRGB(float, float, float, float)}, but does not allocate objects.
+	 *
+	 *  @param h Hue is specified as degrees in the range 0 - 360.
+	 *  @param s Saturation is specified as a percentage in the range 1 - 100.
+	 *  @param l Lumanance is specified as a percentage in the range 1 - 100.
+	 *  @param alpha  the alpha value between 0 - 1
+	 *
+	 *  @return the ARGB color
+	 *
+	 *  @since 3.7
+	 */
+	public static int toARGB(float h, float s, float l, float alpha)
+	{
+		checkRange(s, l, alpha);
+
+		//  Formula needs all values between 0 - 1.
+
+		h = h % 360.0f;
+		h /= 360f;
+		s /= 100f;
+		l /= 100f;
+
+		float q;
+
+		if (l < 0.5)
+			q = l * (1 + s);
+		else
+			q = (l + s) - (s * l);
+
+		float p = 2 * l - q;
+
+		float r = Math.min(Math.max(0, HueToRGB(p, q, h + (1.0f / 3.0f))), 1.0f);
+		float g = Math.min(Math.max(0, HueToRGB(p, q, h)), 1.0f);
+		float b = Math.min(Math.max(0, HueToRGB(p, q, h - (1.0f / 3.0f))), 1.0f);
+
+		// same rounding as in constructor Color(float,float,float,float)
+		return (((int) (alpha * 255 + 0.5)) << 24) |
+			(((int) (r * 255 + 0.5)) << 16) |
+			(((int) (g * 255 + 0.5)) << 8) |
+			((int) (b * 255 + 0.5));
+	}
+
+	private static void checkRange(float s, float l, float alpha)
+	{
+		if (s <0.0f || s > 100.0f)
+		{
+			String message = "Color parameter outside of expected range - Saturation";
+			throw new IllegalArgumentException( message );
+		}
+
+		if (l <0.0f || l > 100.0f)
+		{
+			String message = "Color parameter outside of expected range - Luminance";
+			throw new IllegalArgumentException( message );
+		}
+
+		if (alpha <0.0f || alpha > 1.0f)
+		{
+			String message = "Color parameter outside of expected range - Alpha";
+			throw new IllegalArgumentException( message );
+		}
+	}
+
 	private static float HueToRGB(float p, float q, float h)
 	{
 		if (h < 0) h += 1;
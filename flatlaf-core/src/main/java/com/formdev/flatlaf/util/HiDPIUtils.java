@@ -327,12 +327,26 @@ public class HiDPIUtils
 				super.drawGlyphVector( g, x, y + yCorrection );
 			}
 
+			// true if setColor(Color.black) was invoked since last fillRect()
+			private boolean blackColorSet;
+
+			@Override
+			public void setColor( Color c ) {
+				super.setColor( c );
+				blackColorSet = (c == Color.black);
+			}
+
 			@Override
 			public void fillRect( int x, int y, int width, int height ) {
-				// fix hard coded black color in HRuleView.paint() of '<hr noshade>'
-				if( super.getColor() == Color.black &&
-					StackUtils.wasInvokedFrom( "javax.swing.text.html.HRuleView", "paint", 4 ) )
-				{
+				// fix hard coded black color in HRuleView.paint() of '<hr noshade>',
+				// which invokes setColor(Color.black) followed by fillRect()
+				// (check this first to avoid stack walks for other fillRect() invocations)
+				boolean hrule = blackColorSet &&
+					super.getColor() == Color.black &&
+					StackUtils.wasInvokedFrom( "javax.swing.text.html.HRuleView", "paint", 4 );
+				blackColorSet = false;
+
+				if( hrule ) {
 					super.setColor( FlatLaf.isLafDark() ? Color.lightGray : Color.darkGray );
 					super.fillRect( x, y, width, height );
 					super.setColor( Color.black );
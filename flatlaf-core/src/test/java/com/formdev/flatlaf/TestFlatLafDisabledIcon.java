@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.Toolkit;
+import java.awt.image.BufferedImage;
+import java.awt.image.FilteredImageSource;
+import java.awt.image.ImageFilter;
+import java.awt.image.RGBImageFilter;
+import javax.swing.ImageIcon;
+import javax.swing.UIManager;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import com.formdev.flatlaf.util.GrayFilter;
+
+/**
+ * @author Karl Tauber
+ */
+public class TestFlatLafDisabledIcon
+{
+	@BeforeAll
+	static void setup() {
+		FlatLightLaf.setup();
+	}
+
+	@AfterAll
+	static void cleanup() {
+		UIManager.put( "Component.grayFilter", null );
+	}
+
+	@Test
+	void disabledIcon() {
+		BufferedImage image = createImage();
+		ImageIcon icon = new ImageIcon( image );
+		FlatLaf laf = (FlatLaf) UIManager.getLookAndFeel();
+
+		// filtered image is cached
+		Image disabledImage = ((ImageIcon) laf.getDisabledIcon( null, icon )).getImage();
+		assertSame( disabledImage, ((ImageIcon) laf.getDisabledIcon( null, icon )).getImage() );
+		assertSame( disabledImage, ((ImageIcon) laf.getDisabledIcon( null, new ImageIcon( image ) )).getImage() );
+		assertTrue( disabledImage instanceof BufferedImage );
+
+		// same result as image producer/consumer pipeline
+		ImageFilter filter = (ImageFilter) UIManager.get( "Component.grayFilter" );
+		assertPixelsEquals( filterWithProducer( image, filter ), (BufferedImage) disabledImage );
+
+		// other filter creates new image
+		GrayFilter filter2 = new GrayFilter( 50, 50, 50 );
+		UIManager.put( "Component.grayFilter", filter2 );
+		Image disabledImage2 = ((ImageIcon) laf.getDisabledIcon( null, icon )).getImage();
+		assertNotSame( disabledImage, disabledImage2 );
+		assertPixelsEquals( filterWithProducer( image, filter2 ), (BufferedImage) disabledImage2 );
+	}
+
+	@Test
+	void disabledIconCustomFilter() {
+		BufferedImage image = createImage();
+		ImageIcon icon = new ImageIcon( image );
+		FlatLaf laf = (FlatLaf) UIManager.getLookAndFeel();
+
+		// custom filter that overrides other methods than filterRGB()
+		// --> image producer/consumer pipeline is used and image is not cached
+		RGBImageFilter filter = new RGBImageFilter() {
+			@Override
+			public int filterRGB( int x, int y, int rgb ) {
+				return rgb;
+			}
+
+			@Override
+			public void filterRGBPixels( int x, int y, int w, int h, int[] pixels, int off, int scansize ) {
+				for( int i = 0; i < pixels.length; i++ )
+					pixels[i] = 0xff00ff00;
+				super.filterRGBPixels( x, y, w, h, pixels, off, scansize );
+			}
+		};
+		UIManager.put( "Component.grayFilter", filter );
+		try {
+			Image disabledImage = ((ImageIcon) laf.getDisabledIcon( null, icon )).getImage();
+			assertFalse( disabledImage instanceof BufferedImage );
+			assertNotSame( disabledImage, ((ImageIcon) laf.getDisabledIcon( null, icon )).getImage() );
+			assertPixelsEquals( filterWithProducer( image, filter ), toBufferedImage( disabledImage ) );
+			assertEquals( 0xff00ff00, toBufferedImage( disabledImage ).getRGB( 3, 5 ) );
+		} finally {
+			UIManager.put( "Component.grayFilter", null );
+		}
+	}
+
+	private static BufferedImage createImage() {
+		BufferedImage image = new BufferedImage( 16, 16, BufferedImage.TYPE_INT_ARGB );
+		for( int y = 0; y < 16; y++ ) {
+			for( int x = 0; x < 16; x++ )
+				image.setRGB( x, y, (x * 16) << 24 | (y * 16) << 16 | (x * 8) << 8 | (255 - y * 16) );
+		}
+		return image;
+	}
+
+	private static BufferedImage filterWithProducer( Image image, ImageFilter filter ) {
+		return toBufferedImage( Toolkit.getDefaultToolkit().createImage(
+			new FilteredImageSource( image.getSource(), filter ) ) );
+	}
+
+	private static BufferedImage toBufferedImage( Image image ) {
+		Image filteredImage = new ImageIcon( image ).getImage(); // wait until loaded
+
+		BufferedImage bi = new BufferedImage( 16, 16, BufferedImage.TYPE_INT_ARGB );
+		Graphics2D g = bi.createGraphics();
+		g.setComposite( AlphaComposite.Src );
+		g.drawImage( filteredImage, 0, 0, null );
+		g.dispose();
+		return bi;
+	}
+
+	private static void assertPixelsEquals( BufferedImage expected, BufferedImage actual ) {
+		for( int y = 0; y < 16; y++ ) {
+			for( int x = 0; x < 16; x++ )
+				assertEquals( expected.getRGB( x, y ), actual.getRGB( x, y ), "pixel " + x + "," + y );
+		}
+	}
+}
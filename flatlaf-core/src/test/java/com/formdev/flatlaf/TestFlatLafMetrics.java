@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javax.swing.UIDefaults;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Karl Tauber
+ */
+public class TestFlatLafMetrics
+{
+	@Test
+	void defaultsLoaded() {
+		List<FlatLafMetrics.DefaultsLoaded> metrics = new ArrayList<>();
+		FlatLafMetrics.Listener listener = new FlatLafMetrics.Listener() {
+			@Override
+			public void defaultsLoaded( FlatLafMetrics.DefaultsLoaded m ) {
+				metrics.add( m );
+			}
+		};
+
+		FlatLafMetrics.addListener( listener );
+		try {
+			FlatLightLaf laf = new FlatLightLaf();
+			laf.setExtraDefaults( Collections.singletonMap( "MetricsTest.background", "#xyz" ) );
+			UIDefaults defaults = laf.getDefaults();
+
+			assertEquals( 1, metrics.size() );
+			FlatLafMetrics.DefaultsLoaded m = metrics.get( 0 );
+			assertNotNull( m.toString() );
+			assertEquals( laf.getName(), m.getLafName() );
+			assertEquals( FlatLightLaf.class.getName(), m.getLafClassName() );
+			assertEquals( defaults.size(), m.getDefaultsCount() );
+			assertTrue( m.getPropertiesCount() > 500 );
+			assertEquals( 1, m.getParseErrorCount() );
+			assertTrue( m.getDistinctColorCount() > 0 );
+			assertTrue( m.getDistinctColorCount() * 2 < m.getColorCount() );
+			assertTrue( m.getLoadPropertiesTime() > 0 );
+			assertTrue( m.getParseTime() > 0 );
+			assertTrue( m.getTotalTime() >= m.getBasicDefaultsTime() + m.getLoadPropertiesTime()
+				+ m.getParseTime() + m.getAddonsTime() );
+		} finally {
+			FlatLafMetrics.removeListener( listener );
+		}
+
+		// not notified after removing listener
+		new FlatLightLaf().getDefaults();
+		assertEquals( 1, metrics.size() );
+	}
+
+	@Test
+	void flightRecorder() throws Exception {
+		// JFR is available since Java 11 (using reflection because tests are compiled for Java 8)
+		Class<?> recordingClass;
+		try {
+			recordingClass = Class.forName( "jdk.jfr.Recording" );
+		} catch( ClassNotFoundException ex ) {
+			return;
+		}
+
+		Object recording = recordingClass.getConstructor().newInstance();
+		try {
+			recordingClass.getMethod( "start" ).invoke( recording );
+			assertTrue( FlatLafMetrics.isEnabled() );
+
+			// JFR stays initialized after recording was stopped
+			recordingClass.getMethod( "stop" ).invoke( recording );
+			assertFalse( FlatLafMetrics.isEnabled() );
+		} finally {
+			recordingClass.getMethod( "close" ).invoke( recording );
+		}
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.EventQueue;
+import java.util.HashMap;
+import java.util.Map;
+import javax.swing.JPanel;
+import javax.swing.JProgressBar;
+import javax.swing.JTextField;
+import javax.swing.UIManager;
+import javax.swing.border.Border;
+import javax.swing.plaf.ComponentUI;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Karl Tauber
+ */
+public class TestFlatLafUpdateDefaults
+{
+	@AfterEach
+	void cleanup() {
+		FlatLaf.setGlobalExtraDefaults( null );
+		FlatLightLaf.setup();
+	}
+
+	@Test
+	void updateOnlyAffectedComponents() throws Exception {
+		setExtraDefaults( "#0000ff", "4" );
+		FlatLightLaf.setup();
+
+		EventQueue.invokeAndWait( () -> {
+			JTextField textField = new JTextField();
+			JProgressBar progressBar = new JProgressBar();
+			JPanel panel = new JPanel();
+			panel.add( textField );
+			panel.add( progressBar );
+			Component[] roots = { panel };
+			ComponentUI textFieldUI = textField.getUI();
+			ComponentUI progressBarUI = progressBar.getUI();
+
+			// used keys are not recorded before first incremental update
+			// --> first update re-installs all components and records used keys
+			setExtraDefaults( "#0000ff", "6" );
+			FlatLaf.updateDefaults( roots );
+			assertNotSame( textFieldUI, textField.getUI() );
+			assertNotSame( progressBarUI, progressBar.getUI() );
+			textFieldUI = textField.getUI();
+			progressBarUI = progressBar.getUI();
+
+			// border of text field uses Component.focusColor, which depends on @accentColor
+			Border textFieldBorder = textField.getBorder();
+			assertSame( UIManager.getBorder( "TextField.border" ), textFieldBorder );
+
+			// change only ProgressBar.arc
+			setExtraDefaults( "#0000ff", "8" );
+			FlatLaf.updateDefaults( roots );
+			assertSame( textFieldUI, textField.getUI() );
+			assertNotSame( progressBarUI, progressBar.getUI() );
+
+			// change @accentColor
+			// --> already created text field border is re-created
+			setExtraDefaults( "#ff0000", "8" );
+			FlatLaf.updateDefaults( roots );
+			assertEquals( new Color( 0xff0000 ), UIManager.getColor( "Component.accentColor" ) );
+			assertNotSame( textFieldUI, textField.getUI() );
+			assertNotSame( textFieldBorder, textField.getBorder() );
+			assertSame( UIManager.getBorder( "TextField.border" ), textField.getBorder() );
+		} );
+	}
+
+	private static void setExtraDefaults( String accentColor, String progressBarArc ) {
+		Map<String, String> extraDefaults = new HashMap<>();
+		extraDefaults.put( "@accentColor", accentColor );
+		extraDefaults.put( "ProgressBar.arc", progressBarArc );
+		FlatLaf.setGlobalExtraDefaults( extraDefaults );
+	}
+}
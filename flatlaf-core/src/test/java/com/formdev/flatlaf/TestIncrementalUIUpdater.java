@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.awt.Component;
+import java.awt.EventQueue;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javax.swing.JButton;
+import javax.swing.JComponent;
+import javax.swing.JLabel;
+import javax.swing.JMenu;
+import javax.swing.JMenuItem;
+import javax.swing.JPanel;
+import javax.swing.JPopupMenu;
+import javax.swing.plaf.ComponentUI;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Karl Tauber
+ */
+public class TestIncrementalUIUpdater
+{
+	@BeforeAll
+	static void setup() {
+		FlatLightLaf.setup();
+	}
+
+	@AfterAll
+	static void cleanup() {
+		FlatLightLaf.setup();
+	}
+
+	@Test
+	void updateAll() throws Exception {
+		JPanel root = new JPanel();
+		for( int i = 0; i < 100; i++ ) {
+			JPanel panel = new JPanel();
+			for( int j = 0; j < 20; j++ )
+				panel.add( (j % 2 == 0) ? new JButton( "b" + j ) : new JLabel( "l" + j ) );
+			panel.setVisible( i % 3 != 0 );
+			root.add( panel );
+		}
+		JMenu menu = new JMenu( "menu" );
+		menu.add( new JMenuItem( "item" ) );
+		root.add( menu );
+		JPopupMenu popupMenu = new JPopupMenu();
+		popupMenu.add( new JMenuItem( "popup item" ) );
+		root.setComponentPopupMenu( popupMenu );
+
+		List<JComponent> components = new ArrayList<>();
+		collect( root, components );
+		components.add( popupMenu );
+		components.add( (JComponent) popupMenu.getComponent( 0 ) );
+		Map<JComponent, ComponentUI> oldUIs = new IdentityHashMap<>();
+		for( JComponent c : components )
+			oldUIs.put( c, c.getUI() );
+
+		FlatDarkLaf.setup();
+
+		CountDownLatch finished = new CountDownLatch( 1 );
+		List<String> events = new ArrayList<>();
+		EventQueue.invokeAndWait( () -> {
+			IncrementalUIUpdater.start( new Component[] { root }, () -> {
+				events.add( "finished" );
+				finished.countDown();
+			} );
+			IncrementalUIUpdater.invokeWhenVisibleUpdated( () -> events.add( "visible" ) );
+		} );
+		assertTrue( finished.await( 10, TimeUnit.SECONDS ) );
+
+		// nothing is showing in headless mode
+		assertEquals( 2, events.size() );
+		assertEquals( "visible", events.get( 0 ) );
+		assertEquals( "finished", events.get( 1 ) );
+
+		for( JComponent c : components )
+			assertNotSame( oldUIs.get( c ), c.getUI(), c.toString() );
+
+		// invoked immediately if not running
+		EventQueue.invokeAndWait( () -> {
+			IncrementalUIUpdater.invokeWhenVisibleUpdated( () -> events.add( "immediately" ) );
+		} );
+		assertEquals( "immediately", events.get( 2 ) );
+	}
+
+	@Test
+	void cancel() throws Exception {
+		JPanel root = new JPanel();
+		for( int i = 0; i < 10; i++ )
+			root.add( new JButton( "b" + i ) );
+
+		List<String> events = new ArrayList<>();
+		EventQueue.invokeAndWait( () -> {
+			IncrementalUIUpdater.start( new Component[] { root }, () -> events.add( "finished" ) );
+			IncrementalUIUpdater.invokeWhenVisibleUpdated( () -> events.add( "visible" ) );
+
+			// synchronous update cancels incremental update
+			FlatLaf.updateUI();
+		} );
+		EventQueue.invokeAndWait( () -> {} );
+
+		// runnables are also invoked if cancelled
+		assertEquals( 1, events.size() );
+		assertEquals( "visible", events.get( 0 ) );
+	}
+
+	private static void collect( JComponent c, List<JComponent> result ) {
+		result.add( c );
+		Component[] children = (c instanceof JMenu) ? ((JMenu)c).getMenuComponents() : c.getComponents();
+		for( Component child : children )
+			collect( (JComponent) child, result );
+	}
+}
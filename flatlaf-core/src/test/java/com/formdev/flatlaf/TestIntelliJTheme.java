@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import javax.swing.UIDefaults;
+import org.junit.jupiter.api.Test;
+import com.formdev.flatlaf.util.SystemInfo;
+
+/**
+ * @author Karl Tauber
+ */
+public class TestIntelliJTheme
+{
+	private static final String JSON = "{\n"
+		+ "  \"name\": \"Test Theme\", \"dark\": false, \"author\": \"test\",\n"
+		+ "  \"colors\": { \"primary\": \"#123456\" },\n"
+		+ "  \"ui\": {\n"
+		+ "    \"*\": { \"background\": \"#eeeeee\" },\n"
+		+ "    \"Label\": { \"foreground\": \"primary\" },\n"
+		+ "    \"Button\": { \"arc\": { \"os.default\": 11, \"os.windows\": 12, \"os.mac\": 13, \"os.linux\": 14 } },\n"
+		+ "    \"Component\": { \"arc\": { \"os.mac\": 21 } },\n"
+		+ "    \"ToolTip.foreground\": \"112233\"\n"
+		+ "  },\n"
+		+ "  \"icons\": { \"ColorPalette\": { \"Checkbox.Background.Default\": \"#abcdef\" } }\n"
+		+ "}";
+
+	@Test
+	void precompiled() throws IOException {
+		IntelliJTheme theme = new IntelliJTheme( new ByteArrayInputStream( JSON.getBytes( StandardCharsets.UTF_8 ) ) );
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		theme.writePrecompiled( out );
+
+		IntelliJTheme precompiledTheme = IntelliJTheme.loadPrecompiled( new ByteArrayInputStream( out.toByteArray() ) );
+		assertEquals( theme.name, precompiledTheme.name );
+		assertEquals( theme.dark, precompiledTheme.dark );
+		assertEquals( theme.author, precompiledTheme.author );
+
+		UIDefaults defaults = new IntelliJTheme.ThemeLaf( theme ).getDefaults();
+		UIDefaults precompiledDefaults = new IntelliJTheme.ThemeLaf( precompiledTheme ).getDefaults();
+
+		String[] keys = {
+			"Panel.background",
+			"Label.foreground",
+			"ToolTip.foreground",
+			"Button.arc",
+			"Component.arc",
+			"CheckBox.icon[filled].background",
+		};
+		for( String key : keys )
+			assertEquals( defaults.get( key ), precompiledDefaults.get( key ), key );
+
+		assertEquals( 0xeeeeee, defaults.getColor( "Panel.background" ).getRGB() & 0xffffff );
+		assertEquals( 0x123456, defaults.getColor( "Label.foreground" ).getRGB() & 0xffffff );
+		assertEquals( 0x112233, defaults.getColor( "ToolTip.foreground" ).getRGB() & 0xffffff );
+		assertEquals( 0xabcdef, defaults.getColor( "CheckBox.icon[filled].background" ).getRGB() & 0xffffff );
+
+		// OS specific values
+		assertEquals( SystemInfo.isWindows ? 12 : SystemInfo.isMacOS ? 13 : SystemInfo.isLinux ? 14 : 11,
+			precompiledDefaults.getInt( "Button.arc" ) );
+		if( SystemInfo.isMacOS )
+			assertEquals( 21, precompiledDefaults.getInt( "Component.arc" ) );
+	}
+
+	@Test
+	void precompiledOutdated() throws IOException {
+		IntelliJTheme theme = new IntelliJTheme( new ByteArrayInputStream( JSON.getBytes( StandardCharsets.UTF_8 ) ) );
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		theme.writePrecompiled( out );
+
+		// modify fingerprint (follows magic and format version)
+		// --> created with other FlatLaf version or translation rules
+		byte[] bytes = out.toByteArray();
+		bytes[8] ^= 0xff;
+		assertNull( IntelliJTheme.loadPrecompiled( new ByteArrayInputStream( bytes ) ) );
+	}
+}
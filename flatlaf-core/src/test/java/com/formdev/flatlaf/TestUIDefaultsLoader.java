@@ -17,18 +17,31 @@
 package com.formdev.flatlaf;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Font;
 import java.awt.Insets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import javax.swing.UIDefaults;
 import javax.swing.UIManager;
 import javax.swing.border.Border;
 import javax.swing.UIDefaults.ActiveValue;
 import javax.swing.UIDefaults.LazyValue;
+import javax.swing.plaf.metal.MetalLookAndFeel;
 import org.junit.jupiter.api.Test;
+import com.formdev.flatlaf.UIDefaultsLoader.LoadedProperties;
 import com.formdev.flatlaf.ui.FlatEmptyBorder;
 import com.formdev.flatlaf.ui.FlatLineBorder;
 import com.formdev.flatlaf.util.DerivedColor;
@@ -189,6 +202,37 @@ public class TestUIDefaultsLoader
 		assertEquals( expected, ((LazyValue)UIDefaultsLoader.parseValue( "dummyIcon", value, null )).createValue( null ) );
 	}
 
+	@Test
+	void colorPool() {
+		// equal colors are shared
+		assertSame( UIDefaultsLoader.parseColor( "#123456" ), UIDefaultsLoader.parseColor( "#123456" ) );
+		assertSame( UIDefaultsLoader.parseColor( "#12345680" ), UIDefaultsLoader.parseValue( "dummy", "rgba(18,52,86,128)", null ) );
+		assertSame( UIDefaultsLoader.parseColor( "#ff6666" ), UIDefaultsLoader.parseValue( "dummy", "lighten(#f00,20%)", null ) );
+		assertEquals( new Color( 0x80123456, true ), UIDefaultsLoader.parseColor( "#12345680" ) );
+
+		// themes use much less distinct colors than color keys
+		UIDefaults defaults = new FlatLightLaf().getDefaults();
+		assertTrue( UIColorPool.getDistinctCount() * 2 < UIColorPool.getRequestedCount() );
+
+		// colors that UI delegates compare by identity are not shared
+		Color panelBackground = defaults.getColor( "Panel.background" );
+		Color textFieldBackground = defaults.getColor( "TextField.inactiveBackground" );
+		assertEquals( panelBackground, textFieldBackground );
+		assertNotSame( panelBackground, textFieldBackground );
+		assertNotSame( defaults.getColor( "Table.selectionBackground" ), defaults.getColor( "List.selectionBackground" ) );
+		assertSame( UIColorPool.unshare( "Button.borderColor", panelBackground ), panelBackground );
+	}
+
+	@Test
+	void colorPoolSize() {
+		UIColorPool.clear();
+		for( int i = 0; i < 2000; i++ )
+			UIColorPool.get( i );
+		assertTrue( UIColorPool.getDistinctCount() <= 1000 );
+		assertEquals( 2000, UIColorPool.getRequestedCount() );
+		assertEquals( new Color( 1999, true ), UIColorPool.get( 1999 ) );
+	}
+
 	@Test
 	void parseColorFunctions() {
 		// lighten
@@ -452,6 +496,80 @@ public class TestUIDefaultsLoader
 		return ((LazyValue)v).createValue( null );
 	}
 
+	@Test
+	void parallelLoading() {
+		UIDefaults expected = new FlatDarkLaf().getDefaults();
+
+		System.setProperty( FlatSystemProperties.PARALLEL_DEFAULTS_LOADING, "true" );
+		UIDefaults actual;
+		try {
+			actual = new FlatDarkLaf().getDefaults();
+		} finally {
+			System.clearProperty( FlatSystemProperties.PARALLEL_DEFAULTS_LOADING );
+		}
+
+		assertRawValuesEquals( expected, actual );
+	}
+
+	@Test
+	void updateDefaultsFromProperties() {
+		List<Class<?>> lafClasses = UIDefaultsLoader.getLafClassesForDefaultsLoading( FlatLightLaf.class );
+		List<FlatDefaultsAddon> addons = Collections.emptyList();
+
+		UIDefaults defaults = newBasicDefaults();
+		LoadedProperties loaded = UIDefaultsLoader.loadDefaultsFromProperties(
+			lafClasses, addons, null, null, false, defaults );
+
+		// nothing changed
+		assertEquals( Collections.emptySet(), UIDefaultsLoader.updateDefaultsFromProperties(
+			lafClasses, addons, null, null, false, loaded, defaults ) );
+
+		// change variable
+		Properties additionalDefaults = new Properties();
+		additionalDefaults.put( "@accentColor", "#f00" );
+		additionalDefaults.put( "Test.custom", "#123456" );
+		Set<String> changedKeys = UIDefaultsLoader.updateDefaultsFromProperties(
+			lafClasses, addons, null, additionalDefaults, false, loaded, defaults );
+		assertTrue( changedKeys.contains( "@accentColor" ) );
+		assertTrue( changedKeys.contains( "Component.accentColor" ) );
+		assertTrue( changedKeys.contains( "Component.focusColor" ) );
+		assertTrue( changedKeys.contains( "Test.custom" ) );
+		assertTrue( changedKeys.contains( UIDefaultsLoader.KEY_VARIABLES ) );
+		assertFalse( changedKeys.contains( "Label.foreground" ) );
+		assertEquals( new Color( 0xff0000 ), defaults.getColor( "Component.accentColor" ) );
+
+		UIDefaults expected = newBasicDefaults();
+		UIDefaultsLoader.loadDefaultsFromProperties( lafClasses, addons, null, additionalDefaults, false, expected );
+		assertRawValuesEquals( expected, defaults );
+
+		// removed properties are not supported
+		assertNull( UIDefaultsLoader.updateDefaultsFromProperties(
+			lafClasses, addons, null, null, false, loaded, defaults ) );
+	}
+
+	private static UIDefaults newBasicDefaults() {
+		UIDefaults defaults = new MetalLookAndFeel().getDefaults();
+		defaults.put( "Button.disabledBackground", defaults.getColor( "control" ) );
+		return defaults;
+	}
+
+	/**
+	 * Compares raw values (without resolving lazy and active values).
+	 */
+	private static void assertRawValuesEquals( UIDefaults expected, UIDefaults actual ) {
+		Map<Object, Object> actualMap = new HashMap<>( actual );
+		assertEquals( expected.size(), actualMap.size() );
+		for( Map.Entry<Object, Object> e : expected.entrySet() ) {
+			Object key = e.getKey();
+			Object value = e.getValue();
+			assertTrue( actualMap.containsKey( key ), String.valueOf( key ) );
+			if( value instanceof Color || value instanceof Number || value instanceof Boolean ||
+				value instanceof String || value instanceof Insets || value instanceof Dimension ||
+				value instanceof Map )
+			  assertEquals( value, actualMap.get( key ), String.valueOf( key ) );
+		}
+	}
+
 	//---- class TestInstance -------------------------------------------------
 
 	@SuppressWarnings( "EqualsHashCode" ) // Error Prone
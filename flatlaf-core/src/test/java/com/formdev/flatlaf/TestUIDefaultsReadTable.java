@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import java.awt.Color;
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.Map;
+import javax.swing.UIDefaults;
+import javax.swing.UIDefaults.ActiveValue;
+import javax.swing.UIDefaults.LazyValue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Karl Tauber
+ */
+public class TestUIDefaultsReadTable
+{
+	@Test
+	void readTable() {
+		Map<Object, Object> map = new HashMap<>();
+		for( int i = 0; i < 1000; i++ )
+			map.put( "key" + i, i );
+		map.put( "lazy", (LazyValue) t -> "x" );
+
+		map.put( "active", (ActiveValue) t -> "y" );
+
+		UIDefaultsReadTable table = UIDefaultsReadTable.of( map );
+		assertEquals( 1001, table.size() );
+		for( int i = 0; i < 1000; i++ )
+			assertEquals( i, table.get( "key" + i ) );
+		assertNull( table.get( "unknown" ) );
+
+		// lazy values are not stored, but marked; active values are not stored
+		assertSame( UIDefaultsReadTable.LAZY_VALUE, table.get( "lazy" ) );
+		assertNull( table.get( "active" ) );
+	}
+
+	@Test
+	void flatDefaults() throws Exception {
+		UIDefaults defaults = new FlatLightLaf().getDefaults();
+		Color color = defaults.getColor( "Label.foreground" );
+
+		// modifications are visible
+		defaults.put( "Label.foreground", Color.red );
+		assertEquals( Color.red, defaults.getColor( "Label.foreground" ) );
+		defaults.remove( "Label.foreground" );
+		assertNull( defaults.get( "Label.foreground" ) );
+		defaults.putDefaults( new Object[] { "Label.foreground", color } );
+		assertEquals( color, defaults.getColor( "Label.foreground" ) );
+
+		// lazy value replaces stored value
+		defaults.put( "Label.foreground", (LazyValue) t -> Color.blue );
+		assertEquals( Color.blue, defaults.getColor( "Label.foreground" ) );
+
+		// listeners see new value
+		Object[] valueInListener = new Object[1];
+		defaults.addPropertyChangeListener( e -> {
+			valueInListener[0] = defaults.get( e.getPropertyName() );
+		} );
+		defaults.put( "Label.foreground", Color.green );
+		assertEquals( Color.green, valueInListener[0] );
+
+		// modifications from other threads are visible
+		Thread thread = new Thread( () -> defaults.put( "Label.foreground", Color.yellow ) );
+		thread.start();
+		thread.join();
+		assertEquals( Color.yellow, defaults.getColor( "Label.foreground" ) );
+
+		// resolved lazy values and modified values are lock-free again after some lookups
+		for( int i = 0; i < 1000; i++ )
+			assertEquals( Color.yellow, defaults.getColor( "Label.foreground" ) );
+		assertEquals( Color.yellow, readTable( defaults ).get( "Label.foreground" ) );
+	}
+
+	private static UIDefaultsReadTable readTable( UIDefaults defaults ) throws Exception {
+		Field f = defaults.getClass().getDeclaredField( "readTable" );
+		f.setAccessible( true );
+		return (UIDefaultsReadTable) f.get( defaults );
+	}
+}
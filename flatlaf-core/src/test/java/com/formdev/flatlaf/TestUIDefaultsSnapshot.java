@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.awt.Color;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.Map;
+import javax.swing.UIDefaults;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Karl Tauber
+ */
+public class TestUIDefaultsSnapshot
+{
+	@Test
+	void snapshot() throws IOException {
+		File dir = Files.createTempDirectory( "flatlaf-snapshot" ).toFile();
+		try {
+			UIDefaults expected = new FlatDarkLaf().getDefaults();
+
+			System.setProperty( FlatSystemProperties.UI_DEFAULTS_SNAPSHOT_DIR, dir.getPath() );
+
+			// first time creates snapshot
+			assertDefaultsEquals( expected, new FlatDarkLaf().getDefaults() );
+			File[] files = dir.listFiles();
+			assertEquals( 1, files.length );
+			long lastModified = files[0].lastModified();
+
+			// second time uses snapshot
+			assertDefaultsEquals( expected, new FlatDarkLaf().getDefaults() );
+			assertEquals( lastModified, files[0].lastModified() );
+
+			// extra defaults replace snapshot
+			FlatLaf laf = new FlatDarkLaf();
+			laf.setExtraDefaults( Collections.singletonMap( "@accentColor", "#f00" ) );
+			UIDefaults defaults = laf.getDefaults();
+			assertEquals( new Color( 0xff0000 ), defaults.getColor( "Component.accentColor" ) );
+			assertEquals( 1, dir.listFiles().length );
+		} finally {
+			System.clearProperty( FlatSystemProperties.UI_DEFAULTS_SNAPSHOT_DIR );
+
+			for( File f : dir.listFiles() )
+				f.delete();
+			dir.delete();
+		}
+	}
+
+	private static void assertDefaultsEquals( UIDefaults expected, UIDefaults actual ) {
+		for( Map.Entry<Object, Object> e : expected.entrySet() ) {
+			Object key = e.getKey();
+			Object value = e.getValue();
+			if( value instanceof Color || value instanceof Number || value instanceof Boolean || value instanceof String )
+				assertEquals( value, actual.get( key ), String.valueOf( key ) );
+			else
+				assertTrue( actual.containsKey( key ), String.valueOf( key ) );
+		}
+		assertEquals( expected.size(), actual.size() );
+	}
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Karl Tauber
+ */
+public class TestJson
+{
+	@Test
+	void parseFlat() throws IOException {
+		String json = "{ \"name\": \"test\", \"dark\": true, \"list\": [ 1, { \"a\": 2 } ],\n"
+			+ "  \"ui\": { \"Button\": { \"arc\": 6, \"foreground\": \"#\\u0041bc\", \"x\": null },\n"
+			+ "    \"*\": { \"background\": \"#fff\" }, \"empty\": {} } }";
+
+		List<String> values = new ArrayList<>();
+		Json.parseFlat( new StringReader( json ), (key, depth, value) -> {
+			values.add( key + "|" + depth + "|" + value );
+		} );
+
+		assertEquals( Arrays.asList(
+			"name|1|test",
+			"dark|1|true",
+			"ui.Button.arc|3|6",
+			"ui.Button.foreground|3|#Abc",
+			"ui.Button.x|3|null",
+			"ui.*.background|3|#fff" ), values );
+	}
+
+	@Test
+	@SuppressWarnings( "unchecked" )
+	void parseReusesBuffer() throws IOException {
+		// larger than buffer
+		StringBuilder buf = new StringBuilder( "{" );
+		for( int i = 0; i < 2000; i++ )
+			buf.append( "\"key" ).append( i ).append( "\": \"value" ).append( i ).append( "\"," );
+		buf.append( "\"last\": 1 }" );
+
+		for( int n = 0; n < 3; n++ ) {
+			Map<String, Object> map = (Map<String, Object>) Json.parse( new StringReader( buf.toString() ) );
+			assertEquals( 2001, map.size() );
+			assertEquals( "value1999", map.get( "key1999" ) );
+		}
+	}
+}
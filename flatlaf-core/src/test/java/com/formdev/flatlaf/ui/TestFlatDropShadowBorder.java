@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Insets;
+import java.awt.image.BufferedImage;
+import javax.swing.JPanel;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Karl Tauber
+ */
+public class TestFlatDropShadowBorder
+{
+	@BeforeAll
+	static void setup() {
+		TestUtils.setup( false );
+	}
+
+	@AfterAll
+	static void cleanup() {
+		TestUtils.cleanup();
+	}
+
+	@Test
+	void sharedShadowImage() {
+		Insets insets = new Insets( 3, 6, 9, 6 );
+
+		// first border creates shadow image
+		long misses = FlatDropShadowBorder.getShadowImageCacheMisses();
+		paint( new FlatDropShadowBorder( new Color( 0x123456 ), insets, 0.25f ) );
+		assertEquals( misses + 1, FlatDropShadowBorder.getShadowImageCacheMisses() );
+
+		// other borders with same shadow (alpha of color is ignored) use shared image
+		long hits = FlatDropShadowBorder.getShadowImageCacheHits();
+		paint( new FlatDropShadowBorder( new Color( 0x123456 ), insets, 0.25f ) );
+		paint( new FlatDropShadowBorder( new Color( 0x80123456, true ), insets, 0.25f ) );
+		assertEquals( misses + 1, FlatDropShadowBorder.getShadowImageCacheMisses() );
+		assertEquals( hits + 2, FlatDropShadowBorder.getShadowImageCacheHits() );
+
+		// different opacity creates new image
+		paint( new FlatDropShadowBorder( new Color( 0x123456 ), insets, 0.5f ) );
+		assertEquals( misses + 2, FlatDropShadowBorder.getShadowImageCacheMisses() );
+	}
+
+	private static void paint( FlatDropShadowBorder border ) {
+		BufferedImage image = new BufferedImage( 100, 100, BufferedImage.TYPE_INT_ARGB );
+		Graphics2D g = image.createGraphics();
+		try {
+			border.paintBorder( new JPanel(), g, 0, 0, 100, 100 );
+		} finally {
+			g.dispose();
+		}
+	}
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.event.FocusEvent;
+import java.lang.reflect.Method;
+import javax.swing.JTextField;
+import javax.swing.JTree;
+import javax.swing.TransferHandler;
+import javax.swing.UIManager;
+import javax.swing.text.JTextComponent;
+import javax.swing.text.PlainDocument;
+import javax.swing.tree.TreePath;
+import javax.swing.undo.UndoManager;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import com.formdev.flatlaf.FlatClientProperties;
+
+/**
+ * Verifies that call stack inspections in caret and tree are limited
+ * to the cases where they are needed and do not affect other callers.
+ *
+ * @author Karl Tauber
+ */
+public class TestFlatStackWalks
+{
+	@BeforeAll
+	static void setup() {
+		TestUtils.setup( false );
+	}
+
+	@AfterAll
+	static void cleanup() {
+		TestUtils.cleanup();
+	}
+
+	@Test
+	void caret() {
+		// explicit caret change disables select all on focus gained
+		JTextField textField = createTextField();
+		textField.setCaretPosition( 1 );
+		textField.moveCaretPosition( 2 );
+		focusGained( textField );
+		assertEquals( 1, textField.getSelectionStart() );
+		assertEquals( 2, textField.getSelectionEnd() );
+
+		// typing or setting text does not disable select all on focus gained
+		textField = createTextField();
+		textField.replaceSelection( "x" );
+		textField.setText( "text" );
+		focusGained( textField );
+		assertEquals( 0, textField.getSelectionStart() );
+		assertEquals( 4, textField.getSelectionEnd() );
+
+		// replacing document does not disable select all on focus gained
+		textField = createTextField();
+		textField.setDocument( new PlainDocument() );
+		textField.setText( "abc" );
+		focusGained( textField );
+		assertEquals( 0, textField.getSelectionStart() );
+		assertEquals( 3, textField.getSelectionEnd() );
+
+		// no stack walks after text field was focused
+		long walkCount = StackUtils.getWalkCount();
+		textField.setCaretPosition( 1 );
+		textField.moveCaretPosition( 2 );
+		assertEquals( walkCount, StackUtils.getWalkCount() );
+	}
+
+	@Test
+	void caretUndo() {
+		// undo/redo does not disable select all on focus gained
+		JTextField textField = createTextField();
+		UndoManager undoManager = new UndoManager();
+		textField.getDocument().addUndoableEditListener( undoManager );
+		textField.replaceSelection( "def" );
+		undoManager.undo();
+		undoManager.redo();
+		undoManager.undo();
+		focusGained( textField );
+		assertEquals( 0, textField.getSelectionStart() );
+		assertEquals( 3, textField.getSelectionEnd() );
+	}
+
+	@Test
+	void caretDragOver() throws Exception {
+		// dragging over text field (which temporary moves caret to drop location)
+		// does not disable select all on focus gained
+		JTextField textField = createTextField();
+		textField.setSize( 200, 20 );
+		Method dropLocationForPoint = JTextComponent.class.getDeclaredMethod( "dropLocationForPoint", Point.class );
+		Method setDropLocation = JTextComponent.class.getDeclaredMethod( "setDropLocation",
+			TransferHandler.DropLocation.class, Object.class, boolean.class );
+		dropLocationForPoint.setAccessible( true );
+		setDropLocation.setAccessible( true );
+
+		Object dropLocation = dropLocationForPoint.invoke( textField, new Point( 199, 10 ) );
+		Object state = setDropLocation.invoke( textField, dropLocation, null, false );
+		setDropLocation.invoke( textField, null, state, false );
+
+		focusGained( textField );
+		assertEquals( 0, textField.getSelectionStart() );
+		assertEquals( 3, textField.getSelectionEnd() );
+	}
+
+	private static JTextField createTextField() {
+		JTextField textField = new JTextField( "abc" );
+		textField.putClientProperty( FlatClientProperties.SELECT_ALL_ON_FOCUS_POLICY,
+			FlatClientProperties.SELECT_ALL_ON_FOCUS_POLICY_ONCE );
+		return textField;
+	}
+
+	private static void focusGained( JTextField textField ) {
+		((FlatCaret)textField.getCaret()).focusGained( new FocusEvent( textField, FocusEvent.FOCUS_GAINED ) );
+	}
+
+	@Test
+	void tree() {
+		JTree tree = new JTree();
+		tree.setSize( 500, 500 );
+		tree.putClientProperty( FlatClientProperties.TREE_WIDE_SELECTION, true );
+
+		long walkCount = StackUtils.getWalkCount();
+		int x = tree.getWidth() - 10;
+		int y = tree.getRowBounds( 1 ).y + 1;
+
+		// no stack walks if experimental option is disabled
+		assertNull( tree.getPathForLocation( x, y ) );
+		assertEquals( walkCount, StackUtils.getWalkCount() );
+
+		UIManager.put( "FlatLaf.experimental.tree.widePathForLocation", true );
+		try {
+			TreePath path = tree.getPathForRow( 1 );
+			assertEquals( path, tree.getPathForLocation( x, y ) );
+			assertEquals( 1, tree.getRowForLocation( x, y ) );
+
+			// only JTree.getPathForLocation() returns wide bounds
+			// (selection and scrolling use narrow bounds)
+			Rectangle bounds = tree.getPathBounds( path );
+			assertFalse( bounds.contains( x, y ) );
+			assertEquals( path, tree.getUI().getClosestPathForLocation( tree, x, y ) );
+			assertEquals( bounds, tree.getUI().getPathBounds( tree, path ) );
+		} finally {
+			UIManager.put( "FlatLaf.experimental.tree.widePathForLocation", null );
+		}
+	}
+}
@@ -17,11 +17,15 @@
 package com.formdev.flatlaf.ui;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Insets;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.function.Consumer;
 import javax.swing.*;
@@ -75,6 +79,37 @@ public class TestFlatStyling
 			FlatStylingSupport.parse( "background: #fff; foreground: #000; someWidth: 20" ) );
 	}
 
+	@Test
+	void parseCache() {
+		// same style string returns copy of cached map
+		Map<String, Object> map = FlatStylingSupport.parse( "background: #fff; foreground: $cacheTest.color" );
+		assertEquals( null, map.get( "foreground" ) );
+		map.put( "x", 1 );
+		Map<String, Object> map1 = FlatStylingSupport.parse( "background: #fff; foreground: $cacheTest.color" );
+		assertNotSame( map, map1 );
+		assertSame( map.get( "background" ), map1.get( "background" ) );
+		assertEquals( null, map1.get( "x" ) );
+
+		// modifying UI defaults clears cache
+		UIManager.put( "cacheTest.color", Color.red );
+		try {
+			Map<String, Object> map2 = FlatStylingSupport.parse( "background: #fff; foreground: $cacheTest.color" );
+			assertNotSame( map, map2 );
+			assertEquals( Color.red, map2.get( "foreground" ) );
+
+			// style class rules
+			UIManager.put( "[style].cacheTest", "background: #f00" );
+			assertEquals( "background: #f00", FlatStylingSupport.getStyleForClasses( "cacheTest", "Button" ) );
+			UIManager.put( "[style]Button.cacheTest", "foreground: #0f0" );
+			assertEquals( "background: #f00; foreground: #0f0", FlatStylingSupport.getStyleForClasses( "cacheTest", "Button" ) );
+		} finally {
+			UIManager.put( "cacheTest.color", null );
+			UIManager.put( "[style].cacheTest", null );
+			UIManager.put( "[style]Button.cacheTest", null );
+		}
+		assertEquals( null, FlatStylingSupport.getStyleForClasses( "cacheTest", "Button" ) );
+	}
+
 	@Test
 	void parseIfFunction() {
 		testColorStyle( 0x00ff00, "if(#000,#0f0,#dfd)" );
@@ -1532,6 +1567,48 @@ public class TestFlatStyling
 		icon.applyStyleProperty( "searchIconPressedColor", Color.WHITE );
 	}
 
+	//---- annotated fields ---------------------------------------------------
+
+	static class ClassWithAnnotatedFields {
+		@FlatStylingSupport.Styleable int width;
+		@FlatStylingSupport.Styleable( dot = true ) Color iconColor;
+		@FlatStylingSupport.Styleable SomeEnum enum1;
+		int notStyleable;
+	}
+
+	@Test
+	void annotatedFields() {
+		ClassWithAnnotatedFields c = new ClassWithAnnotatedFields();
+
+		// apply twice to use cached accessors
+		for( int i = 0; i < 2; i++ ) {
+			assertEquals( 0, FlatStylingSupport.applyToAnnotatedObject( c, "width", 10 ) );
+			assertEquals( 10, c.width );
+			assertEquals( 10, FlatStylingSupport.applyToAnnotatedObject( c, "width", 0 ) );
+
+			FlatStylingSupport.applyToAnnotatedObject( c, "icon.color", Color.red );
+			assertEquals( Color.red, c.iconColor );
+			FlatStylingSupport.applyToAnnotatedObject( c, "icon.color", null );
+
+			FlatStylingSupport.applyToAnnotatedObject( c, "enum1", "enumValue2" );
+			assertEquals( SomeEnum.enumValue2, c.enum1 );
+
+			assertThrows( FlatStylingSupport.UnknownStyleException.class,
+				() -> FlatStylingSupport.applyToAnnotatedObject( c, "notStyleable", 1 ) );
+			assertThrows( FlatStylingSupport.UnknownStyleException.class,
+				() -> FlatStylingSupport.applyToAnnotatedObject( c, "iconColor", Color.red ) );
+			assertThrows( IllegalArgumentException.class,
+				() -> FlatStylingSupport.applyToAnnotatedObject( c, "width", "foo" ) );
+		}
+
+		Map<String, Class<?>> expected = new LinkedHashMap<>();
+		expected.put( "width", int.class );
+		expected.put( "icon.color", Color.class );
+		expected.put( "enum1", SomeEnum.class );
+		assertEquals( expected, FlatStylingSupport.getAnnotatedStyleableInfos( c ) );
+		assertEquals( expected, FlatStylingSupport.getAnnotatedStyleableInfos( c ) );
+	}
+
 	//---- enums --------------------------------------------------------------
 
 	enum SomeEnum { enumValue1, enumValue2 }
@@ -17,8 +17,10 @@
 package com.formdev.flatlaf.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import java.awt.Color;
 import org.junit.jupiter.api.Test;
+import com.formdev.flatlaf.util.ColorFunctions.ColorFunction;
 
 /**
  * @author Karl Tauber
@@ -78,4 +80,59 @@ public class TestColorFunctions
 		assertEquals( 0.21586052f, ColorFunctions.luma( Color.gray ) );
 		assertEquals( 0.52711517f, ColorFunctions.luma( Color.lightGray ) );
 	}
+
+	@Test
+	void colorFunctionsInt() {
+		assertEquals( 0xffff6666, ColorFunctions.lighten( 0xffff0000, 0.2f ) );
+		assertEquals( 0xff990000, ColorFunctions.darken( 0xffff0000, 0.2f ) );
+		assertEquals( 0xff9c3030, ColorFunctions.saturate( 0xff884444, 0.2f ) );
+		assertEquals( 0xff745858, ColorFunctions.desaturate( 0xff884444, 0.2f ) );
+		assertEquals( 0xffffaa00, ColorFunctions.spin( 0xffff0000, 40 ) );
+		assertEquals( 0x33ff0000, ColorFunctions.fade( 0xffff0000, 0.2f ) );
+		assertEquals( 0xff40bf00, ColorFunctions.mix( 0xffff0000, 0xff00ff00, 0.25f ) );
+		assertEquals( 0xffff80ff, ColorFunctions.tint( 0xffff00ff, 0.5f ) );
+		assertEquals( 0xffbf00bf, ColorFunctions.shade( 0xffff00ff, 0.25f ) );
+
+		// same results as functions using Color
+		ColorFunction[] functions = {
+			new ColorFunctions.HSLIncreaseDecrease( 2, true, 10, false, true ),
+			new ColorFunctions.Fade( 50 ),
+			new ColorFunctions.Mix( Color.blue, 30 ),
+		};
+		for( int rgb = 0; rgb <= 0xffffff; rgb += 0x010305 ) {
+			Color color = new Color( rgb );
+			assertEquals( ColorFunctions.applyFunctions( color, functions ).getRGB(),
+				ColorFunctions.applyFunctions( color.getRGB(), functions ) );
+			assertEquals( ColorFunctions.lighten( color, 0.1f ).getRGB(), ColorFunctions.lighten( rgb | 0xff000000, 0.1f ) );
+			assertEquals( ColorFunctions.desaturate( color, 0.1f ).getRGB(), ColorFunctions.desaturate( rgb | 0xff000000, 0.1f ) );
+			assertEquals( ColorFunctions.spin( color, 30 ).getRGB(), ColorFunctions.spin( rgb | 0xff000000, 30 ) );
+		}
+
+		// color function that invokes applyFunctions() recursively
+		ColorFunction[] recursiveFunctions = {
+			new ColorFunctions.HSLIncreaseDecrease( 2, true, 10, false, true ),
+			hsla -> ColorFunctions.applyFunctions( 0xff0000ff, functions ),
+			new ColorFunctions.Fade( 50 ),
+		};
+		assertEquals( ColorFunctions.applyFunctions( Color.red, recursiveFunctions ).getRGB(),
+			ColorFunctions.applyFunctions( 0xffff0000, recursiveFunctions ) );
+	}
+
+	@Test
+	void derivedColor() {
+		DerivedColor derivedColor = new DerivedColor( new Color( 0xff6666 ),
+			new ColorFunctions.HSLIncreaseDecrease( 2, true, 20, false, true ) );
+
+		// default color
+		assertEquals( derivedColor, derivedColor.derive( Color.red ) );
+		assertSame( derivedColor, derivedColor.derive( Color.red ) );
+
+		// other base colors are cached
+		Color derived = derivedColor.derive( Color.blue );
+		assertEquals( new Color( 0x6666ff ), derived );
+		assertSame( derived, derivedColor.derive( new Color( 0x0000ff ) ) );
+		for( int i = 0; i < 10; i++ )
+			assertEquals( ColorFunctions.lighten( new Color( i * 20, 0, 0 ), 0.2f ), derivedColor.derive( new Color( i * 20, 0, 0 ) ) );
+		assertEquals( new Color( 0x6666ff ), derivedColor.derive( Color.blue ) );
+	}
 }
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.awt.AWTEvent;
+import java.awt.EventQueue;
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javax.swing.JComponent;
+import javax.swing.JLabel;
+import javax.swing.JRootPane;
+import javax.swing.RepaintManager;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Karl Tauber
+ */
+public class TestFrameClock
+{
+	@Test
+	void sharedFrames() throws Exception {
+		CountDownLatch ended = new CountDownLatch( 3 );
+		List<AWTEvent> events1 = new ArrayList<>();
+		List<AWTEvent> events2 = new ArrayList<>();
+		List<AWTEvent> events3 = new ArrayList<>();
+
+		Animator animator1 = new Animator( 200, f -> events1.add( EventQueue.getCurrentEvent() ), ended::countDown );
+		Animator animator2 = new Animator( 200, f -> events2.add( EventQueue.getCurrentEvent() ), ended::countDown );
+		Animator animator3 = new Animator( 100, f -> events3.add( EventQueue.getCurrentEvent() ), ended::countDown );
+		animator3.setResolution( 40 );
+
+		EventQueue.invokeAndWait( () -> {
+			animator1.start();
+			animator2.start();
+			animator3.start();
+			assertTrue( FrameClock.isRunning() );
+		} );
+
+		assertTrue( ended.await( 5, TimeUnit.SECONDS ) );
+		EventQueue.invokeAndWait( () -> {} );
+
+		// clock is idle if no animation is running
+		assertFalse( FrameClock.isRunning() );
+
+		// animators with same resolution receive timing events in the same frames
+		// (animator2 was started slightly later, so it may need one more frame)
+		assertEquals( events1, events2.subList( 0, events1.size() ) );
+		assertTrue( events2.size() - events1.size() <= 1 );
+
+		// animator with larger resolution skips frames, but uses frames of the clock
+		assertTrue( events3.size() < events1.size() );
+		assertTrue( new HashSet<>( events1 ).containsAll( events3 ) );
+	}
+
+	@Test
+	void stop() throws Exception {
+		Animator animator = new Animator( 10000, f -> {} );
+		EventQueue.invokeAndWait( () -> {
+			animator.start();
+			assertTrue( FrameClock.isRunning() );
+			animator.stop();
+			assertFalse( FrameClock.isRunning() );
+		} );
+	}
+
+	@Test
+	void setResolution() throws Exception {
+		Animator animator = new Animator( 10000, f -> {} );
+		EventQueue.invokeAndWait( () -> {
+			animator.start();
+			assertEquals( 10, FrameClock.getPeriod() );
+
+			// changing resolution of running animator updates clock period
+			animator.setResolution( 50 );
+			assertEquals( 50, FrameClock.getPeriod() );
+			animator.setResolution( 20 );
+			assertEquals( 20, FrameClock.getPeriod() );
+
+			animator.stop();
+			assertEquals( 0, FrameClock.getPeriod() );
+		} );
+	}
+
+	@Test
+	void repaintBatching() throws Exception {
+		JRootPane rootPane = new JRootPane();
+		rootPane.getContentPane().setLayout( null );
+		JLabel label1 = new JLabel();
+		JLabel label2 = new JLabel();
+		JLabel label3 = new JLabel();
+		label1.setBounds( 10, 10, 20, 20 );
+		label2.setBounds( 10, 40, 20, 20 );
+		label3.setBounds( 10, 70, 20, 20 );
+		rootPane.getContentPane().add( label1 );
+		rootPane.getContentPane().add( label2 );
+		rootPane.getContentPane().add( label3 );
+		rootPane.setSize( 500, 500 );
+		rootPane.doLayout();
+
+		List<Rectangle> rootPaneRepaints = new ArrayList<>();
+		RepaintManager oldRepaintManager = RepaintManager.currentManager( rootPane );
+		RepaintManager.setCurrentManager( new RepaintManager() {
+			@Override
+			public void addDirtyRegion( JComponent c, int x, int y, int w, int h ) {
+				if( c == rootPane )
+					rootPaneRepaints.add( new Rectangle( x, y, w, h ) );
+			}
+		} );
+
+		try {
+			CountDownLatch ended = new CountDownLatch( 1 );
+			Animator animator = new Animator( 50, f -> {
+				FrameClock.repaint( label1, 2, 2, 16, 16 );
+				FrameClock.repaint( label2, 2, 2, 16, 16 );
+				FrameClock.repaint( label3, 2, 2, 16, 16 );
+			}, ended::countDown );
+			EventQueue.invokeAndWait( animator::start );
+			assertTrue( ended.await( 5, TimeUnit.SECONDS ) );
+			EventQueue.invokeAndWait( () -> {} );
+
+			// union of repainted areas is repainted in root pane once per frame
+			assertFalse( rootPaneRepaints.isEmpty() );
+			for( Rectangle r : rootPaneRepaints )
+				assertEquals( new Rectangle( 12, 12, 16, 76 ), r );
+
+			// not batched outside of frames
+			rootPaneRepaints.clear();
+			FrameClock.repaint( label1, 2, 2, 16, 16 );
+			FrameClock.repaint( label2, 2, 2, 16, 16 );
+			assertTrue( rootPaneRepaints.isEmpty() );
+		} finally {
+			RepaintManager.setCurrentManager( oldRepaintManager );
+		}
+	}
+}
@@ -27,6 +27,7 @@ import java.util.WeakHashMap;
 import javax.swing.JComponent;
 import javax.swing.JLayeredPane;
 import javax.swing.RootPaneContainer;
+import com.formdev.flatlaf.FlatLaf;
 import com.formdev.flatlaf.FlatSystemProperties;
 import com.formdev.flatlaf.util.Animator;
 
@@ -41,6 +42,8 @@ import com.formdev.flatlaf.util.Animator;
  * FlatLaf.updateUI();
  * FlatAnimatedLafChange.hideSnapshotWithAnimation();
  * </pre>
+ * When using {@link FlatLaf#updateUIIncrementally()} instead of {@link FlatLaf#updateUI()},
+ * the snapshot is shown until all visible components have been updated.
  *
  * @author Karl Tauber
  */
@@ -61,6 +64,7 @@ public class FlatAnimatedLafChange
 	private static final Map<JLayeredPane, JComponent> newUIsnapshots = new WeakHashMap<>();
 	private static float alpha;
 	private static boolean inShowSnapshot;
+	private static int showSnapshotCount;
 
 	/**
 	 * Create a snapshot of the old UI and shows it on top of the UI.
@@ -70,9 +74,9 @@ public class FlatAnimatedLafChange
 		if( !FlatSystemProperties.getBoolean( "flatlaf.animatedLafChange", true ) )
 			return;
 
-		// stop already running animation
-		if( animator != null )
-			animator.stop();
+		// stop already running animation or hide snapshot that waits for incremental UI update
+		stop();
+		showSnapshotCount++;
 
 		alpha = 1;
 
@@ -136,11 +140,24 @@ public class FlatAnimatedLafChange
 	 * Starts an animation that shows the snapshot (created by {@link #showSnapshot()})
 	 * with a decreasing alpha. At the end, the snapshot is removed and the new UI is shown.
 	 * Invoke after updating UI.
+	 * <p>
+	 * If the UI is updated incrementally (see {@link FlatLaf#updateUIIncrementally()}),
+	 * then the animation starts after all visible components have been updated.
 	 */
 	public static void hideSnapshotWithAnimation() {
 		if( !FlatSystemProperties.getBoolean( "flatlaf.animatedLafChange", true ) )
 			return;
 
+		// keep snapshot of old UI until new UI of visible components is complete
+		int count = showSnapshotCount;
+		FlatLaf.invokeWhenVisibleUIUpdated( () -> {
+			// ignore if a new snapshot was shown in the meantime
+			if( count == showSnapshotCount )
+				startHideAnimation();
+		} );
+	}
+
+	private static void startHideAnimation() {
 		if( oldUIsnapshots.isEmpty() )
 			return;
 
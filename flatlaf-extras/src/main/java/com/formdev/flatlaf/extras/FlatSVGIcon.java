@@ -25,6 +25,7 @@ import java.awt.Image;
 import java.awt.Paint;
 import java.awt.Rectangle;
 import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
 import java.awt.geom.Dimension2D;
 import java.awt.LinearGradientPaint;
 import java.awt.image.BufferedImage;
@@ -35,9 +36,23 @@ import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import javax.swing.Icon;
@@ -69,7 +84,12 @@ public class FlatSVGIcon
 	private static boolean svgCacheEnabled = true;
 	// cache that uses soft references for values, which allows freeing SVG documents if no longer used
 	private static final SoftCache<String, SVGDocument> svgCache = new SoftCache<>();
-	private static final SVGLoader svgLoader = new SVGLoader();
+	// SVG documents that are currently loaded (key is same as in svgCache)
+	private static final Map<String, CompletableFuture<SVGDocument>> pendingLoads = new ConcurrentHashMap<>();
+	private static ExecutorService preloadExecutor;
+	// SVGLoader is not documented as thread-safe --> use one per thread
+	private static final ThreadLocal<SVGLoader> svgLoader = ThreadLocal.withInitial( SVGLoader::new );
+	private static boolean rasterCacheEnabled;
 
 	private final String name;
 	private final int width;
@@ -85,6 +105,9 @@ public class FlatSVGIcon
 	private boolean dark;
 	private boolean loadFailed;
 
+	private RasterKey rasterKey;
+	private BufferedImage raster;
+
 	/**
 	 * Creates an SVG icon from the given resource name.
 	 * <p>
@@ -272,7 +295,7 @@ public class FlatSVGIcon
 		this( null, -1, -1, 1, false, null, null );
 
 		try( InputStream in2 = in ) {
-			document = svgLoader.load( in2, null, LoaderContext.createDefault() );
+			document = svgLoader.get().load( in2, null, LoaderContext.createDefault() );
 
 			if( document == null ) {
 				loadFailed = true;
@@ -475,9 +498,9 @@ public class FlatSVGIcon
 
 		URL url = this.url;
 		if( url == null ) {
-			url = getIconURL( name, dark );
+			url = getIconURL( name, dark, classLoader );
 			if( url == null && dark )
-				url = getIconURL( name, false );
+				url = getIconURL( name, false, classLoader );
 
 			if( url == null ) {
 				loadFailed = true;
@@ -491,26 +514,108 @@ public class FlatSVGIcon
 		loadFailed = (document == null);
 	}
 
-	static synchronized SVGDocument loadSVG( URL url ) {
+	static SVGDocument loadSVG( URL url ) {
 		if( !svgCacheEnabled )
 			return loadSVGUncached( url );
 
 		// get from our cache
 		String cacheKey = url.toString();
-		SVGDocument document = svgCache.get( cacheKey );
+		SVGDocument document;
+		synchronized( svgCache ) {
+			document = svgCache.get( cacheKey );
+		}
 		if( document != null )
 			return document;
 
+		// if the same document is currently loaded in another thread (e.g. preloaded),
+		// wait for it, but do not block loading of other documents
+		CompletableFuture<SVGDocument> future = new CompletableFuture<>();
+		CompletableFuture<SVGDocument> pendingLoad = pendingLoads.putIfAbsent( cacheKey, future );
+		if( pendingLoad != null ) {
+			try {
+				return pendingLoad.join();
+			} catch( CompletionException ex ) {
+				return null;
+			}
+		}
+
 		// load SVG document
-		document = loadSVGUncached( url );
+		try {
+			document = loadSVGUncached( url );
 
-		svgCache.put( cacheKey, document );
+			if( document != null ) {
+				synchronized( svgCache ) {
+					svgCache.put( cacheKey, document );
+				}
+			}
+			future.complete( document );
+		} catch( RuntimeException | Error ex ) {
+			future.completeExceptionally( ex );
+			throw ex;
+		} finally {
+			pendingLoads.remove( cacheKey, future );
+		}
 
 		return document;
 	}
 
+	/**
+	 * Loads and parses the given SVG resources in background threads.
+	 * Loaded SVG documents are stored in the SVG document cache and used
+	 * when icons with same name are painted the first time.
+	 * <p>
+	 * This is useful to avoid that many SVG documents are loaded in the
+	 * event dispatch thread when a large window is shown the first time.
+	 * If an icon is painted while its SVG document is still loaded in background,
+	 * then painting waits only for that document.
+	 * <p>
+	 * If the current look and feel is dark, then the dark variants
+	 * (with {@code _dark} suffix) are loaded if available.
+	 *
+	 * @param names the names of the SVG resources (a '/'-separated path; e.g. {@code "com/myapp/myicon.svg"})
+	 * @param classLoader the class loader used to load the SVG resources; or {@code null}
+	 * @return a future that completes when all SVG documents are loaded
+	 * @since 3.7
+	 */
+	public static CompletableFuture<Void> preload( Collection<String> names, ClassLoader classLoader ) {
+		if( !svgCacheEnabled )
+			return CompletableFuture.completedFuture( null );
+
+		boolean dark = isDarkLaf();
+		ExecutorService executor = getPreloadExecutor();
+		List<CompletableFuture<?>> futures = new ArrayList<>( names.size() );
+		for( String name : names ) {
+			futures.add( CompletableFuture.runAsync( () -> {
+				URL url = getIconURL( name, dark, classLoader );
+				if( url == null && dark )
+					url = getIconURL( name, false, classLoader );
+				if( url != null )
+					loadSVG( url );
+			}, executor ) );
+		}
+		return CompletableFuture.allOf( futures.toArray( new CompletableFuture<?>[futures.size()] ) );
+	}
+
+	private static synchronized ExecutorService getPreloadExecutor() {
+		if( preloadExecutor == null ) {
+			int threadCount = Math.max( 1, Math.min( 4, Runtime.getRuntime().availableProcessors() - 1 ) );
+			AtomicInteger threadNumber = new AtomicInteger();
+			ThreadPoolExecutor executor = new ThreadPoolExecutor( threadCount, threadCount,
+				10, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+					Thread thread = new Thread( r, "FlatLaf SVG preloader " + threadNumber.incrementAndGet() );
+					thread.setDaemon( true );
+					return thread;
+				} );
+
+			// terminate idle threads
+			executor.allowCoreThreadTimeOut( true );
+			preloadExecutor = executor;
+		}
+		return preloadExecutor;
+	}
+
 	private static SVGDocument loadSVGUncached( URL url ) {
-		SVGDocument document = svgLoader.load( url );
+		SVGDocument document = svgLoader.get().load( url );
 
 		if( document == null ) {
 			if( loggingEnabled )
@@ -521,7 +626,7 @@ public class FlatSVGIcon
 		return document;
 	}
 
-	private URL getIconURL( String name, boolean dark ) {
+	private static URL getIconURL( String name, boolean dark, ClassLoader classLoader ) {
 		if( dark ) {
 			int dotIndex = name.lastIndexOf( '.' );
 			name = name.substring( 0, dotIndex ) + "_dark" + name.substring( dotIndex );
@@ -582,15 +687,19 @@ public class FlatSVGIcon
 			return;
 
 		// get gray filter
+		// (use shared fallback filter so that rasterized icons can be cached)
 		RGBImageFilter grayFilter = null;
 		if( disabled ) {
 			Object grayFilterObj = UIManager.get( "Component.grayFilter" );
 			grayFilter = (grayFilterObj instanceof RGBImageFilter)
 				? (RGBImageFilter) grayFilterObj
-				: GrayFilter.createDisabledIconFilter( dark );
+				: GrayFilter.getDisabledIconFilter( dark );
 		}
 
 		ColorFilter globalColorFilter = ColorFilter.getInstance();
+		if( rasterCacheEnabled && paintRaster( g, x, y, globalColorFilter, grayFilter ) )
+			return;
+
 		globalColorFilter.c = c;
 		if( colorFilter != null )
 			colorFilter.c = c;
@@ -610,6 +719,76 @@ public class FlatSVGIcon
 		}
 	}
 
+	/**
+	 * Paints a cached raster image of this icon, if possible.
+	 * Returns {@code false} if the icon needs to be rendered (vector).
+	 */
+	private boolean paintRaster( Graphics g, int x, int y,
+		ColorFilter globalColorFilter, RGBImageFilter grayFilter )
+	{
+		// raster can not be cached if colors depend on painting component
+		if( document == null ||
+			globalColorFilter.mapperEx != null ||
+			(colorFilter != null && colorFilter.mapperEx != null) )
+			return false;
+
+		// use vector rendering for rotated, sheared or flipped graphics
+		AffineTransform t = ((Graphics2D)g).getTransform();
+		if( (t.getType() & ~(AffineTransform.TYPE_TRANSLATION | AffineTransform.TYPE_UNIFORM_SCALE)) != 0 )
+			return false;
+
+		double scaleFactor = t.getScaleX();
+		int iconWidth = getIconWidth();
+		int iconHeight = getIconHeight();
+		int rasterWidth = (int) Math.ceil( iconWidth * scaleFactor );
+		int rasterHeight = (int) Math.ceil( iconHeight * scaleFactor );
+		if( scaleFactor <= 0 || rasterWidth <= 0 || rasterHeight <= 0 )
+			return false;
+
+		RasterKey key = new RasterKey( document, iconWidth, iconHeight, width, height, scale,
+			UIScale.getUserScaleFactor(), scaleFactor, dark, grayFilter, colorFilter, globalColorFilter );
+
+		// get raster from this icon, from shared cache or create it
+		BufferedImage raster = key.equals( rasterKey ) ? this.raster : null;
+		if( raster == null ) {
+			raster = RasterCache.get( key );
+			if( raster == null ) {
+				raster = createRaster( rasterWidth, rasterHeight, scaleFactor, globalColorFilter, grayFilter );
+				RasterCache.put( key, raster );
+			}
+			rasterKey = key;
+			this.raster = raster;
+		}
+
+		// paint raster at device pixel location
+		Graphics2D g2 = (Graphics2D) g.create();
+		try {
+			g2.setTransform( AffineTransform.getTranslateInstance(
+				Math.round( t.getTranslateX() + x * scaleFactor ),
+				Math.round( t.getTranslateY() + y * scaleFactor ) ) );
+			g2.drawImage( raster, 0, 0, null );
+		} finally {
+			g2.dispose();
+		}
+		return true;
+	}
+
+	private BufferedImage createRaster( int rasterWidth, int rasterHeight, double scaleFactor,
+		ColorFilter globalColorFilter, RGBImageFilter grayFilter )
+	{
+		BufferedImage raster = new BufferedImage( rasterWidth, rasterHeight, BufferedImage.TYPE_INT_ARGB );
+		Graphics2D g = new GraphicsFilter( raster.createGraphics(), colorFilter, globalColorFilter, grayFilter );
+		try {
+			setRenderingHints( g );
+			g.scale( scaleFactor, scaleFactor );
+
+			paintSvg( g, 0, 0 );
+		} finally {
+			g.dispose();
+		}
+		return raster;
+	}
+
 	private void paintSvg( Graphics2D g, int x, int y ) {
 		if( document == null ) {
 			paintSvgError( g, x, y );
@@ -747,7 +926,73 @@ public class FlatSVGIcon
 
 	/** @since 3.4.1 */
 	public static void clearSVGDocumentCache() {
-		svgCache.clear();
+		synchronized( svgCache ) {
+			svgCache.clear();
+		}
+	}
+
+	/**
+	 * Returns whether rasterized icons are cached.
+	 *
+	 * @since 3.7
+	 */
+	public static boolean isRasterCacheEnabled() {
+		return rasterCacheEnabled;
+	}
+
+	/**
+	 * Enables or disables caching of rasterized icons. Default is {@code false}.
+	 * <p>
+	 * If enabled, icons are rendered once into an image (in device pixels) and
+	 * this image is painted on subsequent paints with same size, scale factors,
+	 * dark mode, disabled state and color filters.
+	 * This makes painting many icons (e.g. in large trees or tables) much faster.
+	 * Icons are still rendered as vector graphics if the graphics context is
+	 * rotated, sheared or flipped, or if a color filter uses a
+	 * {@link ColorFilter#setMapperEx(BiFunction) component dependent mapper}.
+	 * <p>
+	 * The cache is cleared when the look and feel or UI defaults change.
+	 * If a color filter mapper function returns different colors
+	 * for other reasons, invoke {@link #clearRasterCache()}.
+	 *
+	 * @since 3.7
+	 */
+	public static void setRasterCacheEnabled( boolean rasterCacheEnabled ) {
+		FlatSVGIcon.rasterCacheEnabled = rasterCacheEnabled;
+
+		if( rasterCacheEnabled )
+			RasterCache.installListeners();
+		else
+			clearRasterCache();
+	}
+
+	/**
+	 * Returns the maximum size (in bytes) of all cached rasterized icons.
+	 *
+	 * @since 3.7
+	 */
+	public static long getRasterCacheMaxBytes() {
+		return RasterCache.maxBytes;
+	}
+
+	/**
+	 * Sets the maximum size (in bytes) of all cached rasterized icons.
+	 * If the cache becomes larger, least recently used images are removed.
+	 * Default is 8 MB.
+	 *
+	 * @since 3.7
+	 */
+	public static void setRasterCacheMaxBytes( long maxBytes ) {
+		RasterCache.setMaxBytes( maxBytes );
+	}
+
+	/**
+	 * Removes all rasterized icons from the cache.
+	 *
+	 * @since 3.7
+	 */
+	public static void clearRasterCache() {
+		RasterCache.clear();
 	}
 
 	//---- class ColorFilter --------------------------------------------------
@@ -773,6 +1018,7 @@ public class FlatSVGIcon
 		private Function<Color, Color> mapper;
 		private BiFunction<Component, Color, Color> mapperEx;
 		private Component c;
+		private int modCount;
 
 		/**
 		 * Returns the global ColorFilter that is applied to all icons.
@@ -855,6 +1101,7 @@ public class FlatSVGIcon
 		 */
 		public void setMapper( Function<Color, Color> mapper ) {
 			this.mapper = mapper;
+			modCount++;
 		}
 
 		/**
@@ -881,6 +1128,7 @@ public class FlatSVGIcon
 		 */
 		public void setMapperEx( BiFunction<Component, Color, Color> mapperEx ) {
 			this.mapperEx = mapperEx;
+			modCount++;
 		}
 
 		/**
@@ -914,6 +1162,7 @@ public class FlatSVGIcon
 			colorMap.putAll( from2toMap );
 			if( darkColorMap != null )
 				darkColorMap.putAll( from2toMap );
+			modCount++;
 			return this;
 		}
 
@@ -928,6 +1177,7 @@ public class FlatSVGIcon
 
 			colorMap.putAll( from2toLightMap );
 			darkColorMap.putAll( from2toDarkMap );
+			modCount++;
 			return this;
 		}
 
@@ -940,6 +1190,7 @@ public class FlatSVGIcon
 			colorMap.put( from, to );
 			if( darkColorMap != null )
 				darkColorMap.put( from, to );
+			modCount++;
 			return this;
 		}
 
@@ -956,6 +1207,7 @@ public class FlatSVGIcon
 				colorMap.put( from, toLight );
 			if( toDark != null )
 				darkColorMap.put( from, toDark );
+			modCount++;
 			return this;
 		}
 
@@ -967,6 +1219,7 @@ public class FlatSVGIcon
 				colorMap.remove( from );
 			if( darkColorMap != null )
 				darkColorMap.remove( from );
+			modCount++;
 			return this;
 		}
 
@@ -978,6 +1231,7 @@ public class FlatSVGIcon
 		public ColorFilter removeAll() {
 			colorMap = null;
 			darkColorMap = null;
+			modCount++;
 			return this;
 		}
 
@@ -1147,4 +1401,143 @@ public class FlatSVGIcon
 			return changed ? newColors : null;
 		}
 	}
+
+	//---- class RasterKey ----------------------------------------------------
+
+	private static class RasterKey
+	{
+		private final SVGDocument document;
+		private final int iconWidth;
+		private final int iconHeight;
+		private final int width;
+		private final int height;
+		private final float scale;
+		private final float userScaleFactor;
+		private final double scaleFactor;
+		private final boolean dark;
+		private final RGBImageFilter grayFilter;
+		private final ColorFilter colorFilter;
+		private final int colorFilterModCount;
+		private final ColorFilter globalColorFilter;
+		private final int globalColorFilterModCount;
+		private final int cacheGeneration;
+
+		RasterKey( SVGDocument document, int iconWidth, int iconHeight, int width, int height,
+			float scale, float userScaleFactor, double scaleFactor, boolean dark,
+			RGBImageFilter grayFilter, ColorFilter colorFilter, ColorFilter globalColorFilter )
+		{
+			this.document = document;
+			this.iconWidth = iconWidth;
+			this.iconHeight = iconHeight;
+			this.width = width;
+			this.height = height;
+			this.scale = scale;
+			this.userScaleFactor = userScaleFactor;
+			this.scaleFactor = scaleFactor;
+			this.dark = dark;
+			this.grayFilter = grayFilter;
+			this.colorFilter = colorFilter;
+			this.colorFilterModCount = (colorFilter != null) ? colorFilter.modCount : 0;
+			this.globalColorFilter = globalColorFilter;
+			this.globalColorFilterModCount = globalColorFilter.modCount;
+			this.cacheGeneration = RasterCache.generation;
+		}
+
+		int getPixelCount() {
+			return (int) Math.ceil( iconWidth * scaleFactor ) * (int) Math.ceil( iconHeight * scaleFactor );
+		}
+
+		@Override
+		public boolean equals( Object obj ) {
+			if( !(obj instanceof RasterKey) )
+				return false;
+
+			RasterKey key = (RasterKey) obj;
+			return document == key.document &&
+				iconWidth == key.iconWidth &&
+				iconHeight == key.iconHeight &&
+				width == key.width &&
+				height == key.height &&
+				scale == key.scale &&
+				userScaleFactor == key.userScaleFactor &&
+				scaleFactor == key.scaleFactor &&
+				dark == key.dark &&
+				grayFilter == key.grayFilter &&
+				colorFilter == key.colorFilter &&
+				colorFilterModCount == key.colorFilterModCount &&
+				globalColorFilter == key.globalColorFilter &&
+				globalColorFilterModCount == key.globalColorFilterModCount &&
+				cacheGeneration == key.cacheGeneration;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( System.identityHashCode( document ), iconWidth, iconHeight,
+				scaleFactor, dark, System.identityHashCode( grayFilter ),
+				System.identityHashCode( colorFilter ), colorFilterModCount );
+		}
+	}
+
+	//---- class RasterCache --------------------------------------------------
+
+	/**
+	 * Rasterized icons shared by all SVG icons.
+	 * The cache is limited by the total size of the images.
+	 * Least recently used images are removed first.
+	 */
+	private static class RasterCache
+	{
+		private static final Map<RasterKey, BufferedImage> cache = new LinkedHashMap<>( 64, 0.75f, true );
+		private static long maxBytes = 8 * 1024 * 1024;
+		private static long bytes;
+		private static boolean listenersInstalled;
+
+		/** incremented when cache is cleared to invalidate rasters stored in icons */
+		static volatile int generation;
+
+		static synchronized BufferedImage get( RasterKey key ) {
+			return cache.get( key );
+		}
+
+		static synchronized void put( RasterKey key, BufferedImage raster ) {
+			BufferedImage old = cache.put( key, raster );
+			if( old != null )
+				bytes -= sizeOf( old );
+			bytes += sizeOf( raster );
+			trim();
+		}
+
+		static synchronized void setMaxBytes( long maxBytes ) {
+			RasterCache.maxBytes = maxBytes;
+			trim();
+		}
+
+		static synchronized void clear() {
+			cache.clear();
+			bytes = 0;
+			generation++;
+		}
+
+		private static void trim() {
+			Iterator<BufferedImage> it = cache.values().iterator();
+			while( bytes > maxBytes && it.hasNext() ) {
+				bytes -= sizeOf( it.next() );
+				it.remove();
+			}
+		}
+
+		private static long sizeOf( BufferedImage image ) {
+			return (long) image.getWidth() * image.getHeight() * 4;
+		}
+
+		static synchronized void installListeners() {
+			if( listenersInstalled )
+				return;
+			listenersInstalled = true;
+
+			// colors of icons may come from UI defaults (e.g. in IntelliJ themes)
+			UIManager.addPropertyChangeListener( e -> clear() );
+			UIManager.getDefaults().addPropertyChangeListener( e -> clear() );
+		}
+	}
 }
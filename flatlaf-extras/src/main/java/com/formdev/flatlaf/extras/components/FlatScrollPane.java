@@ -59,6 +59,25 @@ public class FlatScrollPane
 	}
 
 
+	/**
+	 * Returns whether the scroll pane animates scrolling with the mouse wheel or trackpad.
+	 *
+	 * @since 3.7
+	 */
+	public boolean isAnimatedScrolling() {
+		return getClientPropertyBoolean( SCROLL_PANE_ANIMATED_SCROLLING, "ScrollPane.animatedScrolling" );
+	}
+
+	/**
+	 * Specifies whether the scroll pane animates scrolling with the mouse wheel or trackpad.
+	 *
+	 * @since 3.7
+	 */
+	public void setAnimatedScrolling( boolean animatedScrolling ) {
+		putClientProperty( SCROLL_PANE_ANIMATED_SCROLLING, animatedScrolling );
+	}
+
+
 	/**
 	 * Returns the outline color of the component border.
 	 */
@@ -21,8 +21,15 @@ plugins {
 	`flatlaf-publish`
 }
 
+sourceSets {
+	// tool that precompiles IntelliJ themes at build time (not included in jar)
+	create( "precompile" )
+}
+
 dependencies {
 	implementation( project( ":flatlaf-core" ) )
+
+	"precompileImplementation"( project( ":flatlaf-core" ) )
 }
 
 flatlafModuleInfo {
@@ -34,6 +41,35 @@ java {
 	withJavadocJar()
 }
 
+tasks {
+	// translate .theme.json files to precompiled themes (.theme.bin files),
+	// which are loaded much faster than .theme.json files
+	val precompileThemes = register<JavaExec>( "precompileThemes" ) {
+		group = "build"
+		description = "Translates IntelliJ themes to precompiled themes."
+
+		val themesDir = file( "src/main/resources/com/formdev/flatlaf/intellijthemes/themes" )
+		val outputDir = layout.buildDirectory.dir( "generated/precompiled-themes" )
+		inputs.dir( themesDir )
+		outputs.dir( outputDir )
+
+		classpath = sourceSets["precompile"].runtimeClasspath
+		mainClass = "com.formdev.flatlaf.intellijthemes.IJThemesPrecompiler"
+		jvmArgs( "-Djava.awt.headless=true" )
+		args( themesDir.path, outputDir.get().asFile.path )
+
+		doFirst {
+			delete( outputDir )
+		}
+	}
+
+	jar {
+		from( precompileThemes ) {
+			into( "com/formdev/flatlaf/intellijthemes/themes" )
+		}
+	}
+}
+
 flatlafPublish {
 	artifactId = "flatlaf-intellij-themes"
 	name = "FlatLaf IntelliJ Themes Pack"
@@ -17,8 +17,10 @@
 package com.formdev.flatlaf.intellijthemes;
 
 import java.io.IOException;
+import java.io.InputStream;
 import com.formdev.flatlaf.IntelliJTheme;
 import com.formdev.flatlaf.util.LoggingFacade;
+import com.formdev.flatlaf.util.StringUtils;
 
 /**
  * @author Karl Tauber
@@ -26,6 +28,20 @@ import com.formdev.flatlaf.util.LoggingFacade;
 class Utils
 {
 	static IntelliJTheme loadTheme( String name ) {
+		// use precompiled theme (created at build time), if available
+		InputStream in = Utils.class.getResourceAsStream( "/com/formdev/flatlaf/intellijthemes/themes/"
+			+ StringUtils.removeTrailing( name, ".json" ) + ".bin" );
+		if( in != null ) {
+			try {
+				// null if created with other FlatLaf version --> load .json file
+				IntelliJTheme theme = IntelliJTheme.loadPrecompiled( in );
+				if( theme != null )
+					return theme;
+			} catch( IOException ex ) {
+				LoggingFacade.INSTANCE.logSevere( "FlatLaf: Failed to load precompiled IntelliJ theme '" + name + "'", ex );
+			}
+		}
+
 		try {
 			return new IntelliJTheme( Utils.class.getResourceAsStream(
 				"/com/formdev/flatlaf/intellijthemes/themes/" + name ) );
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf.intellijthemes;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import com.formdev.flatlaf.IntelliJTheme;
+import com.formdev.flatlaf.util.StringUtils;
+
+/**
+ * Translates all IntelliJ .theme.json files in a directory (and its sub-directories)
+ * to precompiled themes (.theme.bin files), which are loaded by {@code Utils.loadTheme()}.
+ * <p>
+ * Invoked at build time. Usage:
+ * <pre>IJThemesPrecompiler &lt;themes-directory&gt; &lt;output-directory&gt;</pre>
+ *
+ * @author Karl Tauber
+ */
+public class IJThemesPrecompiler
+{
+	public static void main( String[] args ) throws IOException {
+		Path themesDir = Paths.get( args[0] );
+		Path outputDir = Paths.get( args[1] );
+
+		List<Path> themeFiles;
+		try( Stream<Path> files = Files.walk( themesDir ) ) {
+			themeFiles = files
+				.filter( file -> file.getFileName().toString().endsWith( ".theme.json" ) )
+				.sorted()
+				.collect( Collectors.toList() );
+		}
+
+		for( Path themeFile : themeFiles ) {
+			IntelliJTheme theme = new IntelliJTheme( Files.newInputStream( themeFile ) );
+
+			String relativeName = themesDir.relativize( themeFile ).toString();
+			Path outputFile = outputDir.resolve( StringUtils.removeTrailing( relativeName, ".json" ) + ".bin" );
+			Files.createDirectories( outputFile.getParent() );
+			try( OutputStream out = new BufferedOutputStream( Files.newOutputStream( outputFile ) ) ) {
+				theme.writePrecompiled( out );
+			}
+		}
+
+		System.out.println( "Precompiled " + themeFiles.size() + " IntelliJ themes" );
+	}
+}
@@ -47,6 +47,26 @@ dependencies {
 
 applyLafs()
 
+tasks {
+	register<JavaExec>( "paintPerformanceTest" ) {
+		group = "verification"
+		description = "Paints components headless and fails if paint time or allocation budgets are exceeded."
+
+		classpath = sourceSets.main.get().runtimeClasspath
+		mainClass = "com.formdev.flatlaf.testing.FlatPaintPerformanceTest"
+		jvmArgs( "-Djava.awt.headless=true" )
+		args( file( "paint-budgets.properties" ).path )
+	}
+
+	// paint time budgets depend on machine and allocation budgets on JDK
+	// --> run on check only if explicitly requested (e.g. ./gradlew check -PpaintPerformanceTest)
+	if( rootProject.hasProperty( "paintPerformanceTest" ) ) {
+		check {
+			dependsOn( "paintPerformanceTest" )
+		}
+	}
+}
+
 fun applyLafs() {
 	val properties = Properties()
 	file( "lafs.properties" ).inputStream().use {
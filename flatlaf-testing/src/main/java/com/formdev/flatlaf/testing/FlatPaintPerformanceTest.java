@@ -0,0 +1,244 @@
+/*
+ * Copyright 2026 FormDev Software GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.formdev.flatlaf.testing;
+
+import java.awt.BorderLayout;
+import java.awt.Component;
+import java.awt.Container;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.GridLayout;
+import java.awt.image.BufferedImage;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import javax.swing.JComponent;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
+import javax.swing.JTree;
+import javax.swing.SwingUtilities;
+import javax.swing.table.DefaultTableModel;
+import com.formdev.flatlaf.FlatLightLaf;
+
+/**
+ * Headless paint performance test.
+ * <p>
+ * Paints all components of {@link FlatComponentsTest} (plus a table and a tree)
+ * at several scale factors into buffered images and measures time and allocated bytes per paint,
+ * grouped by component type (UI class ID without "UI" suffix; e.g. "Button").
+ * Fails (exit code 1) if a budget is exceeded.
+ * <p>
+ * Budgets are loaded from file {@code paint-budgets.properties} (or from the file
+ * given as first argument). Keys are {@code <type>.nanos} and {@code <type>.bytes}.
+ * Keys {@code default.nanos} and {@code default.bytes} are used for types
+ * without own budget.
+ * <p>
+ * Run with {@code ./gradlew :flatlaf-testing:paintPerformanceTest}.
+ *
+ * @author Karl Tauber
+ */
+public class FlatPaintPerformanceTest
+{
+	private static final float[] SCALE_FACTORS = { 1f, 1.5f, 2f };
+	private static final int WARMUP_ITERATIONS = 200;
+	private static final int ITERATIONS = 500;
+
+	private final Properties budgets;
+	private final List<String> failures = new ArrayList<>();
+
+	public static void main( String[] args ) throws Exception {
+		System.setProperty( "java.awt.headless", "true" );
+
+		Properties budgets = new Properties();
+		String budgetsFile = (args.length > 0) ? args[0] : "paint-budgets.properties";
+		try( InputStream in = new FileInputStream( budgetsFile ) ) {
+			budgets.load( in );
+		} catch( IOException ex ) {
+			System.err.println( "Failed to load budgets from '" + budgetsFile + "': " + ex.getMessage() );
+			System.exit( 2 );
+		}
+
+		FlatPaintPerformanceTest test = new FlatPaintPerformanceTest( budgets );
+		SwingUtilities.invokeAndWait( () -> {
+			FlatLightLaf.setup();
+			test.run( createPanel() );
+		} );
+
+		if( !test.failures.isEmpty() ) {
+			System.err.println();
+			System.err.println( "Paint budget exceeded:" );
+			for( String failure : test.failures )
+				System.err.println( "  " + failure );
+			System.exit( 1 );
+		}
+	}
+
+	private FlatPaintPerformanceTest( Properties budgets ) {
+		this.budgets = budgets;
+	}
+
+	private static JPanel createPanel() {
+		// FlatComponentsTest does not contain tables and trees
+		JTable table = new JTable( new DefaultTableModel( 20, 5 ) );
+		for( int row = 0; row < table.getRowCount(); row++ ) {
+			for( int col = 0; col < table.getColumnCount(); col++ )
+				table.setValueAt( "item " + row + "," + col, row, col );
+		}
+		table.setRowSelectionInterval( 2, 3 );
+
+		JTree tree = new JTree();
+		for( int row = 0; row < tree.getRowCount(); row++ )
+			tree.expandRow( row );
+		tree.setSelectionRow( 2 );
+
+		JPanel tableTreePanel = new JPanel( new GridLayout( 1, 2 ) );
+		tableTreePanel.add( new JScrollPane( table ) );
+		tableTreePanel.add( new JScrollPane( tree ) );
+		tableTreePanel.setPreferredSize( new Dimension( 800, 300 ) );
+
+		JPanel panel = new JPanel( new BorderLayout() );
+		panel.add( new FlatComponentsTest(), BorderLayout.CENTER );
+		panel.add( tableTreePanel, BorderLayout.SOUTH );
+		return panel;
+	}
+
+	private void run( JPanel panel ) {
+		// layout panel (there is no frame in headless mode)
+		Dimension size = panel.getPreferredSize();
+		panel.setSize( size );
+		layoutTree( panel );
+
+		// collect components by type
+		Map<String, List<JComponent>> typeMap = new TreeMap<>();
+		collectComponents( panel, typeMap );
+
+		System.out.printf( Locale.ENGLISH, "%-20s %5s %5s %12s %12s%n", "Type", "Count", "Scale", "ns/paint", "bytes/paint" );
+		for( float scaleFactor : SCALE_FACTORS ) {
+			for( Map.Entry<String, List<JComponent>> e : typeMap.entrySet() ) {
+				String type = e.getKey();
+				List<JComponent> components = e.getValue();
+				measure( type, components, scaleFactor );
+			}
+		}
+	}
+
+	private void measure( String type, List<JComponent> components, float scaleFactor ) {
+		// create images
+		BufferedImage[] images = new BufferedImage[components.size()];
+		for( int i = 0; i < images.length; i++ ) {
+			JComponent c = components.get( i );
+			images[i] = new BufferedImage(
+				(int) Math.ceil( c.getWidth() * scaleFactor ),
+				(int) Math.ceil( c.getHeight() * scaleFactor ),
+				BufferedImage.TYPE_INT_ARGB );
+		}
+
+		// warm up
+		for( int i = 0; i < WARMUP_ITERATIONS; i++ )
+			paintAll( components, images, scaleFactor );
+
+		// measure
+		long startBytes = getAllocatedBytes();
+		long startTime = System.nanoTime();
+		for( int i = 0; i < ITERATIONS; i++ )
+			paintAll( components, images, scaleFactor );
+		long nanos = System.nanoTime() - startTime;
+		long allocatedBytes = getAllocatedBytes() - startBytes;
+
+		long paintCount = (long) ITERATIONS * components.size();
+		long nanosPerPaint = nanos / paintCount;
+		long bytesPerPaint = (startBytes >= 0) ? allocatedBytes / paintCount : -1;
+
+		System.out.printf( Locale.ENGLISH, "%-20s %5d %5.2f %12d %12d%n",
+			type, components.size(), scaleFactor, nanosPerPaint, bytesPerPaint );
+
+		// check budgets
+		checkBudget( type, scaleFactor, "nanos", nanosPerPaint );
+		if( bytesPerPaint >= 0 )
+			checkBudget( type, scaleFactor, "bytes", bytesPerPaint );
+	}
+
+	private void paintAll( List<JComponent> components, BufferedImage[] images, float scaleFactor ) {
+		for( int i = 0; i < images.length; i++ ) {
+			Graphics2D g = images[i].createGraphics();
+			try {
+				g.scale( scaleFactor, scaleFactor );
+				components.get( i ).paint( g );
+			} finally {
+				g.dispose();
+			}
+		}
+	}
+
+	private void checkBudget( String type, float scaleFactor, String kind, long value ) {
+		String budgetStr = budgets.getProperty( type + '.' + kind, budgets.getProperty( "default." + kind ) );
+		if( budgetStr == null )
+			return;
+
+		long budget = Long.parseLong( budgetStr.trim() );
+		if( value > budget ) {
+			failures.add( String.format( Locale.ENGLISH, "%s at scale %.2f: %d %s per paint (budget %d)",
+				type, scaleFactor, value, kind, budget ) );
+		}
+	}
+
+	private static long getAllocatedBytes() {
+		java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if( bean instanceof com.sun.management.ThreadMXBean ) {
+			com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+			if( sunBean.isThreadAllocatedMemorySupported() && sunBean.isThreadAllocatedMemoryEnabled() )
+				return sunBean.getThreadAllocatedBytes( Thread.currentThread().getId() );
+		}
+		return -1;
+	}
+
+	private static void layoutTree( Container container ) {
+		container.doLayout();
+		for( Component c : container.getComponents() ) {
+			if( c instanceof Container )
+				layoutTree( (Container) c );
+		}
+	}
+
+	private static void collectComponents( Container container, Map<String, List<JComponent>> typeMap ) {
+		for( Component c : container.getComponents() ) {
+			if( !(c instanceof JComponent) || !c.isVisible() || c.getWidth() <= 0 || c.getHeight() <= 0 )
+				continue;
+
+			JComponent jc = (JComponent) c;
+			collectComponents( jc, typeMap );
+
+			// panels are only containers for other components
+			String uiClassID = jc.getUIClassID();
+			if( uiClassID.equals( "PanelUI" ) )
+				continue;
+
+			String type = uiClassID.endsWith( "UI" )
+				? uiClassID.substring( 0, uiClassID.length() - 2 )
+				: uiClassID;
+			typeMap.computeIfAbsent( type, k -> new ArrayList<>() ).add( jc );
+		}
+	}
+}